@@ -3,7 +3,9 @@ package com.cos.petproject;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.ServletComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling
 @ServletComponentScan
 @SpringBootApplication
 public class PetProjectApplication {
@@ -0,0 +1,96 @@
+package com.cos.petproject.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import com.cos.petproject.web.dto.user.PrincipalDto;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 세션 속성 직렬화 (JDBC 세션 저장소에서 사용)
+// 매 요청마다 읽고 쓰는 로그인 정보(PrincipalDto)는 자바 직렬화 대신 필드 값만 써서 작게 만든다.
+// 첫 바이트가 형식 : 1 = PrincipalDto, 0 = 그 외 객체 (자바 직렬화)
+public class CompactSessionSerializer {
+
+	private static final byte JAVA = 0;
+	private static final byte PRINCIPAL = 1;
+
+	private final SerializingConverter serializer = new SerializingConverter();
+	private final DeserializingConverter deserializer;
+
+	private final Timer writeTimer;
+	private final Timer readTimer;
+	private final DistributionSummary sizes;
+
+	public CompactSessionSerializer(ClassLoader classLoader, MeterRegistry meterRegistry) {
+		this.deserializer = new DeserializingConverter(classLoader);
+		this.writeTimer = Timer.builder("session.attribute.write")
+				.description("세션 속성 하나를 byte[] 로 바꾸는 시간")
+				.register(meterRegistry);
+		this.readTimer = Timer.builder("session.attribute.read")
+				.description("byte[] 를 세션 속성으로 되돌리는 시간")
+				.register(meterRegistry);
+		this.sizes = DistributionSummary.builder("session.attribute.bytes")
+				.description("직렬화된 세션 속성 크기")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	public byte[] serialize(Object value) {
+		long start = System.nanoTime();
+		byte[] bytes = value instanceof PrincipalDto ? principal((PrincipalDto) value) : java(value);
+		writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		sizes.record(bytes.length);
+		return bytes;
+	}
+
+	public Object deserialize(byte[] bytes) {
+		long start = System.nanoTime();
+		try {
+			if (bytes[0] == PRINCIPAL) {
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+				return new PrincipalDto(in.readInt(), in.readUTF(), in.readUTF(), in.readUTF());
+			}
+			byte[] body = new byte[bytes.length - 1];
+			System.arraycopy(bytes, 1, body, 0, body.length);
+			return deserializer.convert(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private byte[] principal(PrincipalDto principal) {
+		try {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+			DataOutputStream out = new DataOutputStream(buffer);
+			out.writeByte(PRINCIPAL);
+			out.writeInt(principal.getId());
+			out.writeUTF(principal.getUsername());
+			out.writeUTF(principal.getNickname());
+			out.writeUTF(principal.getAuthority());
+			return buffer.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private byte[] java(Object value) {
+		byte[] body = serializer.convert(value);
+		byte[] bytes = new byte[body.length + 1];
+		bytes[0] = JAVA;
+		System.arraycopy(body, 0, bytes, 1, body.length);
+		return bytes;
+	}
+}
@@ -0,0 +1,58 @@
+package com.cos.petproject.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.internet.MimeMessage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+// SMTP 서버 없이 메일을 메모리에만 보관하는 JavaMailSender (mail.fake: true, 로컬/테스트용)
+// 등록되면 spring.mail 자동설정 대신 사용된다.
+// failNext(n) 으로 다음 n 통을 실패시켜서 재시도/dead letter 흐름을 확인할 수 있다.
+@Component
+@ConditionalOnProperty(name = "mail.fake", havingValue = "true")
+public class FakeMailSender extends JavaMailSenderImpl {
+
+	private final List<MimeMessage> sent = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicInteger failures = new AtomicInteger();
+
+	@Override
+	protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+		Map<Object, Exception> failed = new LinkedHashMap<>();
+		for (MimeMessage message : mimeMessages) {
+			if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+				failed.put(message, new MailSendException("fake failure"));
+			} else {
+				sent.add(message);
+			}
+		}
+		if (!failed.isEmpty()) {
+			throw new MailSendException(failed);
+		}
+	}
+
+	// 지금까지 보낸 메일
+	public List<MimeMessage> getSent() {
+		synchronized (sent) {
+			return new ArrayList<>(sent);
+		}
+	}
+
+	public void clear() {
+		sent.clear();
+		failures.set(0);
+	}
+
+	public void failNext(int count) {
+		failures.set(count);
+	}
+}
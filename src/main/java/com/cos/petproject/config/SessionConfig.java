@@ -0,0 +1,59 @@
+package com.cos.petproject.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 세션 저장소 설정
+// 기본은 JDBC (spring.session.store-type: jdbc) 라서 어느 서버로 요청이 가도 같은 세션을 읽는다.
+// 서버 한대로 띄우거나 테스트할 때는 session.store=memory 로 메모리 저장소를 쓴다.
+@Configuration
+public class SessionConfig {
+
+	// JDBC 세션 저장소는 이 이름의 ConversionService 로 속성을 byte[] 로 바꿔서 저장한다
+	@Bean("springSessionConversionService")
+	public ConversionService springSessionConversionService(MeterRegistry meterRegistry) {
+		CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader(),
+				meterRegistry);
+
+		GenericConversionService conversionService = new GenericConversionService();
+		conversionService.addConverter(Object.class, byte[].class, serializer::serialize);
+		conversionService.addConverter(byte[].class, Object.class, serializer::deserialize);
+		return conversionService;
+	}
+
+	@Configuration
+	@ConditionalOnProperty(name = "session.store", havingValue = "memory")
+	@EnableSpringHttpSession
+	static class MemorySessionConfig {
+
+		private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+		@Bean
+		public MapSessionRepository sessionRepository(
+				@Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+			MapSessionRepository repository = new MapSessionRepository(sessions);
+			repository.setDefaultMaxInactiveInterval((int) timeout.getSeconds());
+			return repository;
+		}
+
+		// 메모리 저장소는 만료된 세션을 스스로 지우지 않으므로 주기적으로 정리
+		@Scheduled(fixedDelay = 60000)
+		public void purgeExpired() {
+			sessions.values().removeIf(Session::isExpired);
+		}
+	}
+}
@@ -1,24 +1,25 @@
 package com.cos.petproject.domain.authMail;
 
-import java.time.LocalDateTime;
-
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.PrePersist;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+// 이메일 인증번호 (verification.store=jdbc 일 때 JdbcVerificationCodeStore 가 사용, 이메일당 한 행)
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
 @Data
+@Table(indexes = { @Index(columnList = "email, authKey"), @Index(columnList = "authKey"), @Index(columnList = "expiresAt") })
 public class AuthEmail {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,4 +30,8 @@ public class AuthEmail {
 
 	private String authKey;
 
+	private long expiresAt; // 만료 시각 (ms)
+
+	private int attempts; // 틀린 횟수
+
 }
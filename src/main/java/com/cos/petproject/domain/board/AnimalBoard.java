@@ -0,0 +1,20 @@
+package com.cos.petproject.domain.board;
+
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.MappedSuperclass;
+
+import com.cos.petproject.domain.animal.Animal;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 동물별(냐옹이/멍멍이) 게시판 공통 컬럼 - 자랑하기, QnA, 팁 (댓글이 달린다)
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class AnimalBoard extends Board {
+	@JoinColumn(name = "animalId")
+	@ManyToOne
+	private Animal animal;
+}
@@ -0,0 +1,37 @@
+package com.cos.petproject.domain.board;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import com.cos.petproject.util.BoardListInterface;
+
+// 동물별 게시판 공통 쿼리 (자랑하기, QnA, 팁)
+// #{#entityName} 은 엔티티 이름(Boast, Qna, Tip)으로 바뀌고, 테이블 이름과 댓글 FK(boastId, qnaId, tipId)도 같은 규칙이다.
+@NoRepositoryBean
+public interface AnimalBoardRepository<T extends AnimalBoard> extends BoardRepository<T> {
+
+	// 목록 조회 (본문 없이 목록에 필요한 컬럼 + 미리보기 + 댓글 수만)
+	// 전체 글 수는 BoardCountCache 로 따로 관리하므로 COUNT 쿼리 없이 List 로 받는다
+	@Query(value = "SELECT b.id, b.title, u.nickname, b.counter, b.createdAt, b.excerpt, b.thumbnailUrl, "
+			+ "(SELECT count(*) FROM comment c WHERE c.#{#entityName}Id = b.id) AS commentCount "
+			+ "FROM #{#entityName} b JOIN user u ON u.id = b.userId WHERE b.animalId = :animalId "
+			+ "ORDER BY b.id DESC LIMIT :size OFFSET :offset", nativeQuery = true)
+	List<BoardListInterface> mFindKind(int animalId, int size, int offset);
+
+	// 목록 조회 (keyset), before 보다 작은 id 부터 size 개 - (animalId, id) 인덱스를 탄다
+	@Query(value = "SELECT b.id, b.title, u.nickname, b.counter, b.createdAt, b.excerpt, b.thumbnailUrl, "
+			+ "(SELECT count(*) FROM comment c WHERE c.#{#entityName}Id = b.id) AS commentCount "
+			+ "FROM #{#entityName} b JOIN user u ON u.id = b.userId WHERE b.animalId = :animalId AND b.id < :before "
+			+ "ORDER BY b.id DESC LIMIT :size", nativeQuery = true)
+	List<BoardListInterface> mFindKindBefore(int animalId, int before, int size);
+
+	@Query(value = "SELECT count(*) FROM #{#entityName} WHERE animalId = :animalId", nativeQuery = true)
+	long mCountKind(int animalId);
+
+	// 상세 조회 (작성자, 동물까지 한번에 조인해서 가져온다)
+	@Query("SELECT b FROM #{#entityName} b JOIN FETCH b.user JOIN FETCH b.animal WHERE b.id = :id")
+	Optional<T> mFindDetail(int id);
+}
@@ -0,0 +1,58 @@
+package com.cos.petproject.domain.board;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.Lob;
+import javax.persistence.ManyToOne;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
+
+import com.cos.petproject.domain.user.User;
+import com.cos.petproject.util.BoardContent;
+import com.cos.petproject.util.HtmlImage;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 모든 게시판(자랑하기, QnA, 팁, 공지사항) 공통 컬럼
+// 테이블은 게시판마다 따로 있고 (boast, qna, tip, notice) 컬럼 구성만 같다.
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class Board {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private int id; //PK (자동증가 번호)
+
+	@Column(nullable = false, length = 50)
+	private String title; // 제목
+
+	@Lob
+	private String content; // 내용 (BoardContent 로 정리된 html)
+
+	private int contentLength; // 본문 글자 수 (태그 제외)
+
+	@Column(length = BoardContent.EXCERPT_COLUMN_LENGTH)
+	private String excerpt; // 목록 미리보기 (null 이면 아직 BoardBackfillService 가 채우지 않은 예전 글)
+
+	@Column(length = HtmlImage.MAX_URL_LENGTH)
+	private String thumbnailUrl; // 본문 첫번째 이미지 (없으면 빈 문자열)
+
+	private int counter; // 조회수
+
+	@JoinColumn(name = "userId")
+	@ManyToOne
+	private User user;
+
+	private LocalDateTime createdAt;
+
+	@PrePersist // 디비에 INSERT 되기 직전에 실행
+	public void createdAt() {
+		this.createdAt = LocalDateTime.now();
+	}
+}
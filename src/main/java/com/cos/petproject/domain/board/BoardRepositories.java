@@ -0,0 +1,42 @@
+package com.cos.petproject.domain.board;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.cos.petproject.domain.boast.BoastRepository;
+import com.cos.petproject.domain.notice.NoticeRepository;
+import com.cos.petproject.domain.qna.QnaRepository;
+import com.cos.petproject.domain.tip.TipRepository;
+import com.cos.petproject.util.BoardType;
+
+// BoardType 으로 게시판 저장소 찾기
+@Component
+public class BoardRepositories {
+
+	private final Map<BoardType, BoardRepository<? extends Board>> repositories = new EnumMap<>(BoardType.class);
+
+	public BoardRepositories(BoastRepository boastRepository, QnaRepository qnaRepository,
+			TipRepository tipRepository, NoticeRepository noticeRepository) {
+		repositories.put(BoardType.BOAST, boastRepository);
+		repositories.put(BoardType.QNA, qnaRepository);
+		repositories.put(BoardType.TIP, tipRepository);
+		repositories.put(BoardType.NOTICE, noticeRepository);
+	}
+
+	// 엔티티 타입은 BoardType 과 항상 짝이 맞으므로 Board 로 꺼내서 사용
+	@SuppressWarnings("unchecked")
+	public BoardRepository<Board> get(BoardType type) {
+		return (BoardRepository<Board>) repositories.get(type);
+	}
+
+	// 동물별 게시판 (공지사항이면 IllegalArgumentException)
+	@SuppressWarnings("unchecked")
+	public AnimalBoardRepository<AnimalBoard> animal(BoardType type) {
+		if (!type.isAnimalBoard()) {
+			throw new IllegalArgumentException(type + " 는 동물별 게시판이 아닙니다.");
+		}
+		return (AnimalBoardRepository<AnimalBoard>) repositories.get(type);
+	}
+}
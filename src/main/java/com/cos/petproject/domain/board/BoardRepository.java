@@ -0,0 +1,9 @@
+package com.cos.petproject.domain.board;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+// 게시판 공통 저장소 (BoardRepositories 에서 BoardType 으로 찾아서 사용)
+@NoRepositoryBean
+public interface BoardRepository<T extends Board> extends JpaRepository<T, Integer> {
+}
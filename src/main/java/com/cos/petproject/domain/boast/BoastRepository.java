@@ -2,31 +2,26 @@ package com.cos.petproject.domain.boast;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.cos.petproject.domain.user.User;
+import com.cos.petproject.domain.board.AnimalBoardRepository;
+import com.cos.petproject.util.MainRankInterface;
 
-public interface BoastRepository extends JpaRepository<Boast, Integer>{
-	// 성준
-	//글 작성
-	@Query(value = "INSERT INTO boast(content, counter, title, animalId, userId, createdAt) VALUES(:content, 0, :title, :animalId, :userId, now());", nativeQuery = true)
-	void mSave(String content, String title, int animalId, User userId);
-	// 게시판 조회수 증가를 위한 쿼리
-	@Query(value = "Update boast Set counter = counter + 1 where id = :id", nativeQuery = true)
-	void mCounter(int id);
+// 목록/상세 조회는 AnimalBoardRepository 공통 쿼리 사용
+public interface BoastRepository extends AnimalBoardRepository<Boast> {
 	
-	// 효빈
-	@Query(value = "select * from boast where animalId = :animalId", nativeQuery = true)
-	Page<Boast> mFindKind(int animalId, Pageable pageRequest);
+	// 메인페이지 게시글 조회수 상위 n개 (본문은 읽지 않음)
+	@Query(value = "SELECT id, animalId, title, counter, thumbnailUrl FROM boast ORDER BY counter DESC LIMIT :size", nativeQuery = true)
+	List<MainRankInterface> mMain(int size);
 	
-	// 메인페이지 게시글 조회수 상위 3개
-	@Query(value = "SELECT  * from boast ORDER BY counter DESC LIMIT 3;", nativeQuery = true)
-	List<Boast> mMain();
+	// 썸네일이 아직 없는 예전 글의 본문 (썸네일 채우기용)
+	@Query(value = "SELECT content FROM boast WHERE id = :id", nativeQuery = true)
+	String mFindContent(int id);
 	
-	// 재영
-	
-	// 주원
+	@Modifying
+	@Transactional
+	@Query(value = "UPDATE boast SET thumbnailUrl = :thumbnailUrl WHERE id = :id", nativeQuery = true)
+	void mUpdateThumbnailUrl(int id, String thumbnailUrl);
 }
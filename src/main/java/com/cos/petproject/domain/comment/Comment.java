@@ -4,12 +4,15 @@ import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
+import javax.persistence.Table;
 
 import com.cos.petproject.domain.boast.Boast;
 import com.cos.petproject.domain.qna.Qna;
@@ -27,6 +30,11 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(indexes = { // 게시글별 댓글 keyset 페이징용
+		@Index(columnList = "boastId, id"),
+		@Index(columnList = "qnaId, id"),
+		@Index(columnList = "tipId, id")
+})
 public class Comment {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,20 +43,21 @@ public class Comment {
 	@Column(nullable = false)
 	private String content; // 내용
 
+	// 연관 엔티티는 필요할 때만 조회 (상세페이지 댓글은 CommentRespDto 로 작성자만 조인해서 가져온다)
 	@JoinColumn(name = "userId")
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private User user;
 	
 	@JoinColumn(name = "boastId")
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Boast boast; 
 	
 	@JoinColumn(name = "qnaId")
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Qna qna; 
 	
 	@JoinColumn(name = "tipId")
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Tip tip; 
 	
 	private LocalDateTime createdAt;
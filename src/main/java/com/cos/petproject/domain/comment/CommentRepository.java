@@ -1,11 +1,28 @@
 package com.cos.petproject.domain.comment;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import com.cos.petproject.web.dto.CommentRespDto;
+
 public interface CommentRepository extends JpaRepository<Comment, Integer>{
 	
-	// 댓글 삭제
-	@Query(value = "delete from comment where UserId = :userId", nativeQuery = true)
-	void mdeleteById(int userId);
+	// (글 삭제 시 댓글은 BoardService.delete 에서 글 단위로 지운다)
+	
+	// 게시글별 댓글 목록 (keyset), after 보다 작은 id 부터 최신순으로 (작성자 이름까지 한번의 쿼리로)
+	// 첫 페이지는 after 에 Integer.MAX_VALUE 를 넘긴다
+	@Query("SELECT new com.cos.petproject.web.dto.CommentRespDto(c.id, c.content, u.username, c.createdAt) "
+			+ "FROM Comment c JOIN c.user u WHERE c.boast.id = :boastId AND c.id < :after ORDER BY c.id DESC")
+	List<CommentRespDto> mFindByBoastId(int boastId, int after, Pageable pageable);
+	
+	@Query("SELECT new com.cos.petproject.web.dto.CommentRespDto(c.id, c.content, u.username, c.createdAt) "
+			+ "FROM Comment c JOIN c.user u WHERE c.qna.id = :qnaId AND c.id < :after ORDER BY c.id DESC")
+	List<CommentRespDto> mFindByQnaId(int qnaId, int after, Pageable pageable);
+	
+	@Query("SELECT new com.cos.petproject.web.dto.CommentRespDto(c.id, c.content, u.username, c.createdAt) "
+			+ "FROM Comment c JOIN c.user u WHERE c.tip.id = :tipId AND c.id < :after ORDER BY c.id DESC")
+	List<CommentRespDto> mFindByTipId(int tipId, int after, Pageable pageable);
 }
@@ -0,0 +1,24 @@
+package com.cos.petproject.domain.loginAttempt;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 로그인 시도 제한 토큰 버킷 (login.throttle.store=jdbc 일 때 JdbcLoginAttemptStore 가 사용)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "login_attempt")
+public class LoginAttempt {
+	@Id
+	@Column(name = "bucketKey", length = 100)
+	private String bucketKey; // u:아이디 또는 ip:주소
+	private double tokens;    // 남은 시도 횟수
+	private long updatedAt;   // 마지막으로 토큰을 계산한 시각 (ms)
+}
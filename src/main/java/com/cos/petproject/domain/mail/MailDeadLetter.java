@@ -0,0 +1,42 @@
+package com.cos.petproject.domain.mail;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 재시도 횟수를 넘겨서 발송을 포기한 메일 (관리자가 확인용)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "mail_dead_letter")
+public class MailDeadLetter {
+	@Id
+	private long id; // mail_outbox 의 id 그대로
+
+	@Column(nullable = false, length = 50)
+	private String toAddress;
+
+	@Column(nullable = false, length = 100)
+	private String subject;
+
+	@Lob
+	private String content;
+
+	private int attempts;
+
+	@Column(length = 500)
+	private String lastError;
+
+	private LocalDateTime createdAt;
+
+	private LocalDateTime failedAt;
+}
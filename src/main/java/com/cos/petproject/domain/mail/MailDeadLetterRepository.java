@@ -0,0 +1,6 @@
+package com.cos.petproject.domain.mail;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailDeadLetterRepository extends JpaRepository<MailDeadLetter, Long> {
+}
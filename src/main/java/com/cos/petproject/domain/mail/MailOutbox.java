@@ -0,0 +1,55 @@
+package com.cos.petproject.domain.mail;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.PrePersist;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 보낼 메일 (MailOutboxService 가 커밋 후 발송하고, 성공하면 지운다)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "mail_outbox", indexes = @Index(columnList = "nextAttemptAt"))
+public class MailOutbox {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	@Column(nullable = false, length = 50)
+	private String toAddress; // 받는 사람
+
+	@Column(nullable = false, length = 100)
+	private String subject; // 제목
+
+	@Lob
+	private String content; // 내용 (html)
+
+	private int attempts; // 실패한 횟수
+
+	private LocalDateTime nextAttemptAt; // 이 시각 이후에 발송 (실패하면 점점 늦춰진다)
+
+	@Column(length = 500)
+	private String lastError;
+
+	private LocalDateTime createdAt;
+
+	@PrePersist // 디비에 INSERT 되기 직전에 실행
+	public void createdAt() {
+		this.createdAt = LocalDateTime.now();
+		if (this.nextAttemptAt == null) {
+			this.nextAttemptAt = this.createdAt;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.cos.petproject.domain.mail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+	// 발송할 차례가 된 메일 id
+	@Query(value = "SELECT id FROM mail_outbox WHERE nextAttemptAt <= :now ORDER BY nextAttemptAt LIMIT :size", nativeQuery = true)
+	List<Long> mFindDue(LocalDateTime now, int size);
+
+	// 발송 권한 가져오기 (다른 스레드/서버가 먼저 가져갔으면 0), 가져간 동안은 leaseUntil 까지 다른 곳에서 안 보낸다
+	@Modifying
+	@Transactional
+	@Query(value = "UPDATE mail_outbox SET nextAttemptAt = :leaseUntil WHERE id = :id AND nextAttemptAt <= :now", nativeQuery = true)
+	int mClaim(long id, LocalDateTime now, LocalDateTime leaseUntil);
+
+	// 실패 기록 + 다음 시도 시각
+	@Modifying
+	@Transactional
+	@Query(value = "UPDATE mail_outbox SET attempts = attempts + 1, lastError = :error, nextAttemptAt = :nextAttemptAt WHERE id = :id", nativeQuery = true)
+	int mFailed(long id, String error, LocalDateTime nextAttemptAt);
+}
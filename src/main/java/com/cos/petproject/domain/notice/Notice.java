@@ -1,49 +1,17 @@
 package com.cos.petproject.domain.notice;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
-import javax.persistence.Column;
 import javax.persistence.Entity;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.Lob;
-import javax.persistence.ManyToOne;
-import javax.persistence.PrePersist;
 
-import com.cos.petproject.domain.user.User;
+import com.cos.petproject.domain.board.Board;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
-@AllArgsConstructor
+// 공지사항 (동물 구분, 댓글 없음)
 @NoArgsConstructor
+@Getter
+@Setter
 @Entity
-@Data
-public class Notice {
-	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
-	private int id; //PK (자동증가 번호)
-	
-	@Column(nullable = false, length = 50)
-	private String title; // 제목
-	@Lob
-	private String content; // 내용
-	
-	private int counter;
-	
-	@JoinColumn(name = "userId")
-	@ManyToOne
-	private User user;
-	
-	private LocalDateTime createdAt;
-
-	@PrePersist // 디비에 INSERT 되기 직전에 실행
-	public void createdAt() {
-		this.createdAt = LocalDateTime.now();
-	}
-		
+public class Notice extends Board {
 }
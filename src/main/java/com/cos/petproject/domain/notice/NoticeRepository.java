@@ -1,16 +1,27 @@
 package com.cos.petproject.domain.notice;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.Query;
 
-import com.cos.petproject.domain.user.User;
+import com.cos.petproject.domain.board.BoardRepository;
+import com.cos.petproject.util.BoardListInterface;
 
-public interface NoticeRepository extends JpaRepository<Notice, Integer> {
+public interface NoticeRepository extends BoardRepository<Notice> {
+	
+	// 목록 조회 (본문 없이 목록에 필요한 컬럼만, 공지사항은 댓글이 없음)
+	@Query(value = "SELECT n.id, n.title, u.nickname, n.counter, n.createdAt, n.excerpt, n.thumbnailUrl, 0 AS commentCount "
+			+ "FROM notice n JOIN user u ON u.id = n.userId "
+			+ "ORDER BY n.id DESC LIMIT :size OFFSET :offset", nativeQuery = true)
+	List<BoardListInterface> mFindList(int size, int offset);
+	
+	// 목록 조회 (keyset)
+	@Query(value = "SELECT n.id, n.title, u.nickname, n.counter, n.createdAt, n.excerpt, n.thumbnailUrl, 0 AS commentCount "
+			+ "FROM notice n JOIN user u ON u.id = n.userId WHERE n.id < :before "
+			+ "ORDER BY n.id DESC LIMIT :size", nativeQuery = true)
+	List<BoardListInterface> mFindListBefore(int before, int size);
 	
-	@Query(value = "INSERT INTO notice(title, content, userId, createdAt, counter) VALUES(:title, :content, :userId, now(), 0);", nativeQuery = true)
-	void mSave(String title, String content, User userId);
+	@Query(value = "SELECT count(*) FROM notice", nativeQuery = true)
+	long mCount();
 
-	// 게시판 조회수 증가를 위한 쿼리
-	@Query(value = "Update notice Set counter = counter + 1 where id = :id", nativeQuery = true)
-	void mCounter(int id);
 }
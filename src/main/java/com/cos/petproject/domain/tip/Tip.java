@@ -1,55 +1,28 @@
 package com.cos.petproject.domain.tip;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
-import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.Lob;
-import javax.persistence.ManyToOne;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
-import javax.persistence.PrePersist;
+import javax.persistence.Table;
 
-import com.cos.petproject.domain.animal.Animal;
+import com.cos.petproject.domain.board.AnimalBoard;
 import com.cos.petproject.domain.comment.Comment;
-import com.cos.petproject.domain.user.User;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @NoArgsConstructor
-@AllArgsConstructor
-@Data
+@Getter
+@Setter
 @Entity
-public class Tip {
-	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
-	private int id; //PK (자동증가 번호)
-	
-	@Column(nullable = false, length = 50)
-	private String title; // 제목
-	
-	@Lob
-	private String content; // 내용
-	
-	private int counter;
-	
-	@JoinColumn(name = "userId")
-	@ManyToOne
-	private User user;
-	
-	@JoinColumn(name = "animalId")
-	@ManyToOne
-	private Animal animal;
-	
+@Table(indexes = @Index(columnList = "animalId, id")) // 목록 keyset 페이징용
+public class Tip extends AnimalBoard {
 	// 양방향 매핑
 	// mappedBy 에는 FK의 주인의 변수이름을 추가한다.
 	@JsonIgnoreProperties({"tip"}) // comments 객체 내부의 필드를 제외시키는 법
@@ -57,10 +30,4 @@ public class Tip {
 	@OrderBy("id desc")
 	private List<Comment> comments;
 
-	private LocalDateTime createdAt;
-
-	@PrePersist // 디비에 INSERT 되기 직전에 실행
-	public void createdAt() {
-		this.createdAt = LocalDateTime.now();
-	}
 }
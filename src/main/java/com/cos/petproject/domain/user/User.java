@@ -23,8 +23,8 @@ public class User {
 	private int id; //PK (자동증가 번호)
 	@Column(nullable = false, length = 20, unique = true)
 	private String username; // 아이디
-	@Column(nullable = false, length = 70)
-	private String password; // 비밀번호
+	@Column(nullable = false, length = 100)
+	private String password; // 비밀번호 해시 (PasswordHasher 형식, pbkdf2$... 또는 예전 SHA-256)
 	@Column(nullable = false, length = 20)
 	private String name;     // 이름
 	@Column(nullable = false, length = 20)
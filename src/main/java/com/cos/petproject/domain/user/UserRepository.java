@@ -4,14 +4,23 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cos.petproject.domain.authMail.AuthEmail;
+import com.cos.petproject.util.UserDuplicateInterface;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
-	// 로그인
-	@Query(value = "select * from user where username = :username and password = :password", nativeQuery = true)
-	User mLogin(String username, String password);
+	// 로그인 (비밀번호는 PasswordHasher 로 확인, salt 가 있어서 쿼리로 비교할 수 없음)
+	@Query(value = "select * from user where username = :username", nativeQuery = true)
+	User mFindByUsername(String username);
+	
+	// 로그인 시 예전 방식 비밀번호를 새 방식으로 다시 저장
+	@Modifying
+	@Transactional
+	@Query(value = "update user set password = :password where id = :id", nativeQuery = true)
+	void mUpdatePassword(int id, String password);
 	
 	// 아이디 찾기
 	@Query(value = "select * from user where name = :name and birth = :birth and email = :email", nativeQuery = true)
@@ -31,15 +40,12 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 	User mPWFind(String username, String name, String birth, String email);
 	
 	// 효빈
-	@Query(value = "select username from user where username = :username", nativeQuery = true)
-	String mIdCheck(String username);
-	@Query(value = "select phone from user where phone = :phone", nativeQuery = true)
-	String mPhoneCheck(String phone);
-	@Query(value = "select email from user where email = :email", nativeQuery = true)
-	String mEmailCheck(String email);
-	// DB에 저장된 인증키불러오기 - 회원가입 클릭했을때 적은 인증키로 찾아보기
-	@Query(value = "SELECT DISTINCT authKey from authemail where authKey = :authKey", nativeQuery = true)
-	String mFindAuthKey(String authKey);
+	// 아이디, 이메일, 전화번호 중복확인을 한번에 (UserExistenceIndex 에서 있을 수도 있다고 할 때만 실행)
+	@Query(value = "SELECT count(CASE WHEN username = :username THEN 1 END) AS usernameCount, "
+			+ "count(CASE WHEN email = :email THEN 1 END) AS emailCount, "
+			+ "count(CASE WHEN phone = :phone THEN 1 END) AS phoneCount "
+			+ "FROM user WHERE username = :username OR email = :email OR phone = :phone", nativeQuery = true)
+	UserDuplicateInterface mDuplicateCheck(String username, String email, String phone);
 	// 권한 변경
 	@Query(value = "update user set authority = 'admin' where id = :id", nativeQuery = true)
 	void adminUpdate(int id);
@@ -0,0 +1,23 @@
+package com.cos.petproject.domain.visitor;
+
+import java.util.Date;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 보관 기간이 지난 방문 기록 (visitor 테이블에서 옮겨짐)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "visitor_archive")
+public class VisitorArchive {
+	@Id
+	private int id; // visitor 테이블의 id 그대로
+	private Date time;
+}
@@ -0,0 +1,23 @@
+package com.cos.petproject.domain.visitor;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 일별 방문자 수 집계 (VisitorRollupService 가 방문 기록 저장 시 함께 갱신)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "visitor_daily")
+public class VisitorDaily {
+	@Id
+	private LocalDate day; // 날짜
+	private long visits;   // 방문자 수
+}
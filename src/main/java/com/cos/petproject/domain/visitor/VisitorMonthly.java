@@ -0,0 +1,23 @@
+package com.cos.petproject.domain.visitor;
+
+import java.time.LocalDate;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 월별 방문자 수 집계 (month 는 해당 월의 1일)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "visitor_monthly")
+public class VisitorMonthly {
+	@Id
+	private LocalDate month; // 월 (yyyy-MM-01)
+	private long visits;     // 방문자 수
+}
@@ -0,0 +1,41 @@
+package com.cos.petproject.filter;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.cos.petproject.service.VisitorRecorder;
+
+import lombok.RequiredArgsConstructor;
+
+// 방문자 수 카운트 (세션이 새로 만들어진 요청 = 방문 1회)
+// 세션을 DB 에 저장하면 HttpSessionListener 가 호출되지 않으므로 요청이 끝날 때 직접 확인한다.
+// 세션을 만든 서버에서 기록하므로 서버가 여러대여도 한번만 센다.
+@RequiredArgsConstructor
+@Component
+public class VisitorCountFilter extends OncePerRequestFilter {
+
+	private final VisitorRecorder visitorRecorder;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			// 화면(JSP)에서 세션이 만들어지는 경우도 있어서 요청이 끝난 뒤에 확인
+			HttpSession session = request.getSession(false);
+			if (session != null && session.isNew()) {
+				// INSERT 는 VisitorRecorder 가 모아서 처리
+				visitorRecorder.record(session.getCreationTime());
+			}
+		}
+	}
+}
@@ -61,12 +61,13 @@ public class MailHandler {
         messageHelper.addInline(contentId, fsr);
     }
 
-    // 발송
+    // 만들어진 메일 (여러 통을 한번에 보낼 때 사용)
+    public MimeMessage getMessage() {
+        return message;
+    }
+
+    // 발송 (실패하면 MailException 을 그대로 던진다)
     public void send() {
-        try {
-            sender.send(message);
-        }catch(Exception e) {
-            e.printStackTrace();
-        }
+        sender.send(message);
     }
 }
\ No newline at end of file
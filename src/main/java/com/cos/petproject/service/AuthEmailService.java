@@ -1,54 +1,69 @@
 package com.cos.petproject.service;
 
-import java.util.List;
-
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.cos.petproject.domain.authMail.AuthEmail;
-import com.cos.petproject.domain.authMail.AuthEmailRepository;
 import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
-import com.cos.petproject.util.mChkAuthKey;
 import com.cos.petproject.web.dto.AuthEmailReqDto;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 
-@RequiredArgsConstructor
 @Service
 public class AuthEmailService {
 
-	private final AuthEmailRepository authEmailRepository;
+	private final VerificationCodeStore verificationCodeStore;
+	private final VerificationCodeGenerator verificationCodeGenerator;
 	private final MailService mailService;
+
+	private final long ttlMillis;
+	private final int maxAttempts;
+
+	public AuthEmailService(VerificationCodeStore verificationCodeStore,
+			VerificationCodeGenerator verificationCodeGenerator, MailService mailService,
+			@Value("${verification.ttl-ms:300000}") long ttlMillis,
+			@Value("${verification.max-attempts:5}") int maxAttempts,
+			MeterRegistry meterRegistry) {
+		this.verificationCodeStore = verificationCodeStore;
+		this.verificationCodeGenerator = verificationCodeGenerator;
+		this.mailService = mailService;
+		this.ttlMillis = ttlMillis;
+		this.maxAttempts = maxAttempts;
+		meterRegistry.gauge("verification.codes", verificationCodeStore, VerificationCodeStore::size);
+	}
 	
-	@Transactional(rollbackFor = MyAsyncNotFoundException.class)
-	public AuthEmail 인증번호발송(AuthEmailReqDto dto) {
+	// 인증번호 발송 (메일은 mail_outbox 에 저장되고 커밋 후 발송)
+	@Transactional
+	public void 인증번호발송(AuthEmailReqDto dto) {
 		
-    	authEmailRepository.save(dto.toEntity());
-    	
-        //임의의 authKey 생성 & 이메일 발송
-        String authKey = mailService.sendAuthMail(dto);
+		long now = System.currentTimeMillis();
+		
+        //임의의 authKey 생성 (다른 이메일에 보낸 유효한 번호와 겹치지 않게) & 이메일 발송
+        String authKey = verificationCodeGenerator.generate(code -> verificationCodeStore.isOutstanding(code, now));
         dto.setAuthKey(authKey);
+        mailService.sendAuthMail(dto);
         
-      //DB에 authKey 업데이트
-        AuthEmail authEmailEntity = authEmailRepository.mUpdateAuthKey(dto.getAuthKey(), dto.getEmail());
-        
-		return authEmailEntity;
-		
+        // 이메일당 하나만 저장 (ttl-ms 가 지나면 만료)
+        verificationCodeStore.put(dto.getEmail(), authKey, now + ttlMillis);
 	}
 	
-	@Transactional(rollbackFor = MyAsyncNotFoundException.class)
 	public void 인증번호검증(AuthEmailReqDto dto) {
-	
-		
-	   	 List<mChkAuthKey> authEmailEntity = authEmailRepository.mChkAuthKey(dto.getAuthKey(), dto.getEmail())
-	   			 .orElseThrow(()-> new MyAsyncNotFoundException("인증번호가 일치하지 않습니다."));
-	 	
-	   	 if (authEmailEntity.isEmpty()) {
-	   		 throw new MyAsyncNotFoundException("인증번호가 일치하지 않습니다.");
-	   	 
-	   	 }
-	   	 System.out.println(authEmailEntity);
-   	 
+		if (!인증확인(dto.getEmail(), dto.getAuthKey())) {
+			throw new MyAsyncNotFoundException("인증번호가 일치하지 않습니다.");
+		}
+	}
+
+	// 이메일과 인증번호가 맞으면 true (가입/수정 시 다시 확인)
+	public boolean 인증확인(String email, String authKey) {
+		if (email == null || authKey == null) {
+			return false;
+		}
+		return verificationCodeStore.verify(email, authKey, maxAttempts, System.currentTimeMillis());
+	}
+
+	// 가입/수정이 끝난 인증번호는 다시 쓸 수 없도록 제거
+	public void 인증완료(String email) {
+		verificationCodeStore.remove(email);
 	}
 }
 	
@@ -0,0 +1,102 @@
+package com.cos.petproject.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.util.BoardContent;
+import com.cos.petproject.util.BoardType;
+
+// 예전 글에 목록 미리보기(excerpt, thumbnailUrl)와 정리된 본문, 글자 수 채우기 (관리자가 한번 실행하는 작업)
+// excerpt 가 null 인 글만 대상이라 중간에 멈춰도 다시 실행하면 남은 글부터 이어서 처리된다.
+// 한번에 chunk 개씩만 읽고 batch update 하므로 글이 많아도 메모리는 chunk 만큼만 쓴다.
+@Service
+public class BoardBackfillService {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int chunk;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "board-backfill");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public BoardBackfillService(JdbcTemplate jdbcTemplate, @Value("${board.backfill-chunk:100}") int chunk) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.chunk = chunk;
+	}
+
+	// 백그라운드에서 실행 (이미 실행중이면 false)
+	public boolean start() {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		executor.execute(() -> {
+			try {
+				for (BoardType type : BoardType.values()) {
+					int filled = backfill(type);
+					System.out.println(type.getTable() + " 미리보기 채우기 완료 : " + filled + "건");
+				}
+			} catch (Exception e) {
+				System.out.println("미리보기 채우기 중단 (다시 실행하면 이어서 처리) : " + e.getMessage());
+			} finally {
+				running.set(false);
+			}
+		});
+		return true;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	// id 순서대로 chunk 개씩
+	private int backfill(BoardType type) {
+		String table = type.getTable();
+		int filled = 0;
+		int lastId = 0;
+
+		while (!Thread.currentThread().isInterrupted()) {
+			List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT id, content FROM " + table
+					+ " WHERE id > ? AND excerpt IS NULL ORDER BY id LIMIT " + chunk, lastId);
+			if (rows.isEmpty()) {
+				break;
+			}
+
+			List<Object[]> args = new ArrayList<>(rows.size());
+			for (Map<String, Object> row : rows) {
+				lastId = ((Number) row.get("id")).intValue();
+				BoardContent content = BoardContent.of((String) row.get("content"));
+				args.add(new Object[] { content.getHtml(), content.getLength(), content.getExcerpt(),
+						content.getThumbnailUrl(), lastId });
+			}
+
+			// 그 사이에 수정된 글은 이미 excerpt 가 채워져 있으므로 덮어쓰지 않는다
+			int[] updated = jdbcTemplate.batchUpdate("UPDATE " + table
+					+ " SET content = ?, contentLength = ?, excerpt = ?, thumbnailUrl = ? WHERE id = ? AND excerpt IS NULL",
+					args);
+			for (int count : updated) {
+				if (count > 0) {
+					filled += count;
+				}
+			}
+		}
+		return filled;
+	}
+}
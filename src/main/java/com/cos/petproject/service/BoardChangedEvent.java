@@ -0,0 +1,21 @@
+package com.cos.petproject.service;
+
+import java.time.LocalDateTime;
+
+import com.cos.petproject.util.BoardType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글이 작성/수정/삭제된 뒤 발행되는 이벤트 (검색 index 등 갱신용)
+@AllArgsConstructor
+@Getter
+public class BoardChangedEvent {
+	private final BoardType type;
+	private final int id;
+	private final int animalId; // 공지사항은 0
+	private final String title; // 삭제면 null
+	private final String text; // 본문에서 태그를 뺀 글자
+	private final LocalDateTime createdAt; // 글 버전 (수정하면 바뀐다), 삭제면 null
+	private final boolean deleted;
+}
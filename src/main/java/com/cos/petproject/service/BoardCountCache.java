@@ -0,0 +1,54 @@
+package com.cos.petproject.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.util.BoardType;
+
+// 게시판별 전체 글 수 캐시
+// 목록 페이지 번호 계산에만 쓰이므로 약간 틀려도 되고, 매 요청마다 COUNT(*) 하지 않는다.
+// 글 작성/삭제 시에는 바로 무효화한다.
+@Service
+public class BoardCountCache {
+
+	private final long ttlMillis;
+	private final ConcurrentHashMap<String, Entry> counts = new ConcurrentHashMap<>();
+
+	private static class Entry {
+		private final long count;
+		private final long loadedAt;
+
+		private Entry(long count, long loadedAt) {
+			this.count = count;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	public BoardCountCache(@Value("${board.count-cache-ttl-ms:60000}") long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+	}
+
+	// animalId 가 없는 게시판(공지사항)은 0
+	public long count(BoardType type, int animalId, LongSupplier loader) {
+		String key = key(type, animalId);
+		long now = System.currentTimeMillis();
+
+		Entry entry = counts.get(key);
+		if (entry == null || now - entry.loadedAt > ttlMillis) {
+			entry = new Entry(loader.getAsLong(), now);
+			counts.put(key, entry);
+		}
+		return entry.count;
+	}
+
+	public void invalidate(BoardType type, int animalId) {
+		counts.remove(key(type, animalId));
+	}
+
+	private String key(BoardType type, int animalId) {
+		return type.name() + ":" + animalId;
+	}
+}
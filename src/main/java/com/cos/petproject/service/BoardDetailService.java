@@ -0,0 +1,65 @@
+package com.cos.petproject.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cos.petproject.domain.board.AnimalBoard;
+import com.cos.petproject.domain.board.BoardRepositories;
+import com.cos.petproject.domain.comment.CommentRepository;
+import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
+import com.cos.petproject.handler.exception.MyNotFoundException;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.web.dto.BoardDetailRespDto;
+import com.cos.petproject.web.dto.CommentRespDto;
+
+import lombok.RequiredArgsConstructor;
+
+// 게시글 상세페이지 조회
+// 글(작성자, 동물 조인) 1번 + 댓글(작성자 조인) 1번, 총 2번의 쿼리로 끝낸다.
+// open-in-view 를 끄므로 화면에서 지연로딩이 일어나지 않도록 필요한 값은 여기서 모두 채운다.
+@RequiredArgsConstructor
+@Service
+public class BoardDetailService {
+
+	// 댓글 한 페이지 크기 (나머지는 화면에서 스크롤 시 /api/{board}/{id}/comments 로 불러온다)
+	public static final int COMMENT_PAGE_SIZE = 20;
+
+	private final BoardRepositories boardRepositories;
+	private final CommentRepository commentRepository;
+
+	// 동물별 게시판 상세 (자랑하기, QnA, 팁)
+	@Transactional(readOnly = true)
+	public BoardDetailRespDto<AnimalBoard> detail(BoardType type, int id) {
+		AnimalBoard board = boardRepositories.animal(type).mFindDetail(id)
+				.orElseThrow(() -> new MyNotFoundException(id + " 페이지를 찾을 수 없습니다."));
+		List<CommentRespDto> comments = comments(type, id, 0);
+		return new BoardDetailRespDto<>(board, comments, nextAfter(comments));
+	}
+
+	// 댓글 한 페이지 (after 가 0 이면 첫 페이지)
+	@Transactional(readOnly = true)
+	public List<CommentRespDto> comments(BoardType type, int id, int after) {
+		int before = after > 0 ? after : Integer.MAX_VALUE;
+		Pageable page = PageRequest.of(0, COMMENT_PAGE_SIZE);
+
+		switch (type) {
+		case BOAST:
+			return commentRepository.mFindByBoastId(id, before, page);
+		case QNA:
+			return commentRepository.mFindByQnaId(id, before, page);
+		case TIP:
+			return commentRepository.mFindByTipId(id, before, page);
+		default:
+			throw new MyAsyncNotFoundException("댓글이 없는 게시판입니다.");
+		}
+	}
+
+	// 한 페이지가 꽉 찼으면 마지막 댓글 id 가 다음 페이지 기준
+	public static int nextAfter(List<CommentRespDto> comments) {
+		return comments.size() < COMMENT_PAGE_SIZE ? 0 : comments.get(comments.size() - 1).getId();
+	}
+}
@@ -0,0 +1,145 @@
+package com.cos.petproject.service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import com.cos.petproject.domain.board.Board;
+import com.cos.petproject.util.BoardContent;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.util.DateFormats;
+import com.cos.petproject.util.MediaRendition;
+import com.cos.petproject.web.dto.BoardFragmentDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 상세페이지 html 조각 캐시 (제목, 작성자, 작성일, 본문)
+// 게시판 + 글 번호로 찾고, 글이 수정되면 createdAt 이 바뀌므로 이 값을 버전으로 비교해서 예전 조각은 쓰지 않는다.
+// 수정/삭제가 커밋되면 BoardChangedEvent 로 바로 지운다.
+// 전체 크기가 max-bytes 를 넘으면 가장 오래 안 쓴 글부터 제거한다.
+@Service
+public class BoardFragmentCache {
+
+	// 문자열 외에 entry 하나에 드는 대략적인 크기
+	private static final int ENTRY_OVERHEAD = 128;
+
+	private final long maxBytes;
+	private final Map<String, Entry> fragments = new LinkedHashMap<>(16, 0.75f, true);
+	private long bytes; // fragments 락 안에서만 읽고 쓴다
+
+	private final Counter hits;
+	private final Counter misses;
+
+	private static class Entry {
+		private final LocalDateTime version;
+		private final BoardFragmentDto fragment;
+		private final long bytes;
+
+		private Entry(LocalDateTime version, BoardFragmentDto fragment, long bytes) {
+			this.version = version;
+			this.fragment = fragment;
+			this.bytes = bytes;
+		}
+	}
+
+	public BoardFragmentCache(@Value("${board.fragment-cache-bytes:16777216}") long maxBytes,
+			MeterRegistry meterRegistry) {
+		this.maxBytes = maxBytes;
+		this.hits = meterRegistry.counter("board.fragment.hit");
+		this.misses = meterRegistry.counter("board.fragment.miss");
+		meterRegistry.gauge("board.fragment.bytes", this, BoardFragmentCache::bytes);
+	}
+
+	// board 는 작성자까지 조회된 글
+	public BoardFragmentDto get(BoardType type, Board board) {
+		String key = key(type, board.getId());
+		synchronized (fragments) {
+			Entry entry = fragments.get(key);
+			if (entry != null && entry.version.equals(board.getCreatedAt())) {
+				hits.increment();
+				return entry.fragment;
+			}
+		}
+
+		// html 만들기는 락 밖에서
+		misses.increment();
+		BoardFragmentDto fragment = render(board);
+		long size = ENTRY_OVERHEAD
+				+ 2L * (fragment.getTitle().length() + fragment.getMeta().length() + fragment.getBody().length());
+		if (size > maxBytes) {
+			return fragment; // 너무 큰 글은 저장하지 않는다
+		}
+
+		synchronized (fragments) {
+			Entry old = fragments.get(key);
+			// 그 사이에 더 새 버전이 들어왔으면 덮어쓰지 않는다
+			if (old != null && old.version.isAfter(board.getCreatedAt())) {
+				return fragment;
+			}
+			putLocked(key, new Entry(board.getCreatedAt(), fragment, size));
+		}
+		return fragment;
+	}
+
+	// 수정/삭제가 커밋된 뒤 제거
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onBoardChanged(BoardChangedEvent event) {
+		invalidate(event.getType(), event.getId());
+	}
+
+	public void invalidate(BoardType type, int id) {
+		synchronized (fragments) {
+			Entry old = fragments.remove(key(type, id));
+			if (old != null) {
+				bytes -= old.bytes;
+			}
+		}
+	}
+
+	private double bytes() {
+		synchronized (fragments) {
+			return bytes;
+		}
+	}
+
+	private void putLocked(String key, Entry entry) {
+		Entry old = fragments.put(key, entry);
+		if (old != null) {
+			bytes -= old.bytes;
+		}
+		bytes += entry.bytes;
+
+		// access-order 라서 앞쪽이 가장 오래 안 쓴 글
+		Iterator<Entry> it = fragments.values().iterator();
+		while (bytes > maxBytes && it.hasNext()) {
+			Entry eldest = it.next();
+			if (eldest == entry) {
+				continue;
+			}
+			bytes -= eldest.bytes;
+			it.remove();
+		}
+	}
+
+	private static BoardFragmentDto render(Board board) {
+		String title = HtmlUtils.htmlEscape(board.getTitle());
+		String meta = "<div class=\"p-2\"><small>글 작성자 : " + HtmlUtils.htmlEscape(board.getUser().getUsername())
+				+ "</small></div><div class=\"p-2\"><small>" + board.getCreatedAt().format(DateFormats.DATE_TIME)
+				+ "</small></div>";
+		// 작성 시 이미 정리되지만 그 전에 저장된 글도 있으므로 한 번 더 (캐시되므로 글마다 한 번)
+		String body = BoardContent.sanitize(board.getContent(), MediaRendition.DETAIL);
+		return new BoardFragmentDto(title, meta, body);
+	}
+
+	private static String key(BoardType type, int id) {
+		return type.name() + ":" + id;
+	}
+}
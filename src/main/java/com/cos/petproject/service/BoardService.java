@@ -0,0 +1,213 @@
+package com.cos.petproject.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cos.petproject.domain.animal.AnimalRepository;
+import com.cos.petproject.domain.board.AnimalBoard;
+import com.cos.petproject.domain.board.AnimalBoardRepository;
+import com.cos.petproject.domain.board.Board;
+import com.cos.petproject.domain.board.BoardRepositories;
+import com.cos.petproject.domain.boast.Boast;
+import com.cos.petproject.domain.comment.Comment;
+import com.cos.petproject.domain.comment.CommentRepository;
+import com.cos.petproject.domain.notice.Notice;
+import com.cos.petproject.domain.notice.NoticeRepository;
+import com.cos.petproject.domain.qna.Qna;
+import com.cos.petproject.domain.tip.Tip;
+import com.cos.petproject.domain.user.UserRepository;
+import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
+import com.cos.petproject.handler.exception.MyNotFoundException;
+import com.cos.petproject.util.BoardContent;
+import com.cos.petproject.util.BoardListInterface;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.web.dto.user.PrincipalDto;
+
+import lombok.RequiredArgsConstructor;
+
+// 게시판 공통 기능 (글 목록, 작성, 수정, 삭제, 댓글 작성)
+// 자랑하기/QnA/팁/공지사항 모두 BoardType 하나로 처리한다. (상세 조회는 BoardDetailService)
+@RequiredArgsConstructor
+@Service
+public class BoardService {
+
+	// 목록 한 페이지 크기
+	public static final int PAGE_SIZE = 10;
+
+	// 글 삭제 시 한 트랜잭션에서 지우는 최대 댓글 수 (댓글이 많은 글도 락을 오래 잡지 않도록)
+	private static final int COMMENT_DELETE_BATCH = 1000;
+
+	private final BoardRepositories boardRepositories;
+	private final NoticeRepository noticeRepository;
+	private final CommentRepository commentRepository;
+	private final AnimalRepository animalRepository;
+	private final UserRepository userRepository;
+	private final BoardCountCache boardCountCache;
+	private final MainRankingService mainRankingService;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher publisher;
+
+	// 전체 글 수는 캐시된 값 사용 (페이지 번호 계산용이라 조금 틀려도 됨), 공지사항은 animalId 0
+	public long count(BoardType type, int animalId) {
+		if (type == BoardType.NOTICE) {
+			return boardCountCache.count(type, 0, noticeRepository::mCount);
+		}
+		AnimalBoardRepository<AnimalBoard> repository = boardRepositories.animal(type);
+		return boardCountCache.count(type, animalId, () -> repository.mCountKind(animalId));
+	}
+
+	// 목록 한 페이지
+	// before 가 있으면 keyset 모드 : OFFSET 없이 before 다음 글부터 읽는다 (뒤쪽 페이지도 비용이 같음)
+	public List<BoardListInterface> list(BoardType type, int animalId, int page, Integer before) {
+		if (type == BoardType.NOTICE) {
+			return before != null ? noticeRepository.mFindListBefore(before, PAGE_SIZE)
+					: noticeRepository.mFindList(PAGE_SIZE, page * PAGE_SIZE);
+		}
+		AnimalBoardRepository<AnimalBoard> repository = boardRepositories.animal(type);
+		return before != null ? repository.mFindKindBefore(animalId, before, PAGE_SIZE)
+				: repository.mFindKind(animalId, PAGE_SIZE, page * PAGE_SIZE);
+	}
+
+	// 수정화면용 (작성자, 동물까지)
+	@Transactional(readOnly = true)
+	public Board findById(BoardType type, int id) {
+		return boardRepositories.get(type).findById(id)
+				.orElseThrow(() -> new MyNotFoundException(id + " 페이지를 찾을 수 없습니다."));
+	}
+
+	// 글 작성 (공지사항이면 animalId 는 무시)
+	@Transactional
+	public void save(BoardType type, int animalId, String title, String content, int userId) {
+		Board board = newBoard(type);
+		board.setTitle(title);
+		board.setUser(userRepository.getById(userId)); // FK 용 참조 (조회 쿼리 없음)
+		BoardContent processed = setContent(board, content);
+		if (board instanceof AnimalBoard) {
+			((AnimalBoard) board).setAnimal(animalRepository.getById(animalId));
+		}
+		boardRepositories.get(type).save(board);
+		boardCountCache.invalidate(type, type.isAnimalBoard() ? animalId : 0);
+		publishChanged(type, board, processed);
+	}
+
+	// 글 수정 (작성자만)
+	@Transactional
+	public void update(BoardType type, int animalId, int id, String title, String content, PrincipalDto principal) {
+		Board board = boardRepositories.get(type).findById(id)
+				.orElseThrow(() -> new MyAsyncNotFoundException("해당 게시글을 찾을 수 없습니다"));
+
+		if (principal.getId() != board.getUser().getId()) {
+			throw new MyAsyncNotFoundException("해당 게시물의 권한이 없습니다");
+		}
+
+		board.setTitle(title);
+		BoardContent processed = setContent(board, content);
+		if (board instanceof AnimalBoard) {
+			((AnimalBoard) board).setAnimal(animalRepository.getById(animalId));
+		}
+		board.setCreatedAt(LocalDateTime.now());
+		publishChanged(type, board, processed);
+	}
+
+	// 글 삭제 (작성자 또는 관리자, 공지사항은 예전처럼 작성자만)
+	// 글과 그 글의 댓글만 지운다. 마지막 댓글 batch 와 글은 같은 트랜잭션에서 지워서
+	// 댓글만 지워지고 글은 남는 경우가 없도록 한다.
+	// 댓글이 COMMENT_DELETE_BATCH 개보다 많으면 앞부분은 batch 단위의 짧은 트랜잭션으로 먼저 지운다.
+	public void delete(BoardType type, int id, PrincipalDto principal) {
+		Board board = boardRepositories.get(type).findById(id)
+				.orElseThrow(() -> new MyAsyncNotFoundException("해당글을 찾을 수 없습니다."));
+		boolean admin = type != BoardType.NOTICE && principal.getAuthority().equals("admin");
+		if (principal.getId() != board.getUser().getId() && !admin) {
+			throw new MyAsyncNotFoundException("해당글을 삭제할 권한이 없습니다.");
+		}
+
+		if (type.isAnimalBoard()) {
+			String commentFk = type.getTable() + "Id";
+			Integer comments = jdbcTemplate.queryForObject(
+					"SELECT count(*) FROM comment WHERE " + commentFk + " = ?", Integer.class, id);
+			for (int left = comments == null ? 0 : comments; left > COMMENT_DELETE_BATCH; left -= COMMENT_DELETE_BATCH) {
+				jdbcTemplate.update("DELETE FROM comment WHERE " + commentFk + " = ? LIMIT " + COMMENT_DELETE_BATCH, id);
+			}
+		}
+
+		Integer deleted = transactionTemplate.execute(status -> {
+			if (type.isAnimalBoard()) {
+				// 남은 댓글 (batch 이하, 그 사이에 달린 댓글 포함)
+				jdbcTemplate.update("DELETE FROM comment WHERE " + type.getTable() + "Id = ?", id);
+			}
+			return jdbcTemplate.update("DELETE FROM " + type.getTable() + " WHERE id = ?", id);
+		});
+		if (deleted == null || deleted == 0) {
+			throw new MyAsyncNotFoundException(id + "를 찾을 수 없어서 삭제할 수 없어요.");
+		}
+
+		int animalId = board instanceof AnimalBoard ? ((AnimalBoard) board).getAnimal().getId() : 0;
+		boardCountCache.invalidate(type, animalId);
+		publisher.publishEvent(new BoardChangedEvent(type, id, animalId, null, null, null, true));
+
+		// 메인페이지 인기글에서 삭제된 글 빼기
+		if (type == BoardType.BOAST) {
+			mainRankingService.refresh();
+		}
+	}
+
+	// 댓글 작성
+	@Transactional
+	public void saveComment(BoardType type, int id, String content, int userId) {
+		AnimalBoard board = boardRepositories.animal(type).findById(id)
+				.orElseThrow(() -> new MyNotFoundException("해당게시글을 찾을 수 없습니다."));
+
+		Comment comment = new Comment();
+		comment.setContent(content);
+		comment.setUser(userRepository.getById(userId)); // FK 용 참조 (조회 쿼리 없음)
+		switch (type) {
+		case BOAST:
+			comment.setBoast((Boast) board);
+			break;
+		case QNA:
+			comment.setQna((Qna) board);
+			break;
+		default:
+			comment.setTip((Tip) board);
+		}
+		commentRepository.save(comment);
+	}
+
+	// 커밋된 뒤 검색 index 등에 반영 (BoardChangedEvent)
+	private void publishChanged(BoardType type, Board board, BoardContent content) {
+		int animalId = board instanceof AnimalBoard ? ((AnimalBoard) board).getAnimal().getId() : 0;
+		publisher.publishEvent(
+				new BoardChangedEvent(type, board.getId(), animalId, board.getTitle(), content.getPlainText(),
+						board.getCreatedAt(), false));
+	}
+
+	private static Board newBoard(BoardType type) {
+		switch (type) {
+		case BOAST:
+			return new Boast();
+		case QNA:
+			return new Qna();
+		case TIP:
+			return new Tip();
+		default:
+			return new Notice();
+		}
+	}
+
+	// 본문 정리 후 저장 (목록용 요약과 첫 이미지도 같이 저장)
+	private static BoardContent setContent(Board board, String content) {
+		BoardContent processed = BoardContent.of(content);
+		board.setContent(processed.getHtml());
+		board.setContentLength(processed.getLength());
+		board.setExcerpt(processed.getExcerpt());
+		board.setThumbnailUrl(processed.getThumbnailUrl());
+		return processed;
+	}
+}
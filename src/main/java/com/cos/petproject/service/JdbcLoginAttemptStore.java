@@ -0,0 +1,59 @@
+package com.cos.petproject.service;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+// DB 토큰 버킷 (서버가 여러대일 때 모든 서버가 같은 버킷을 본다)
+// 행 잠금(SELECT ... FOR UPDATE)으로 같은 버킷에 대한 동시 시도를 순서대로 처리한다.
+@ConditionalOnProperty(name = "login.throttle.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Component
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public boolean tryConsume(String key, int capacity, double refillPerMillis, long now) {
+		Boolean allowed = transactionTemplate.execute(status -> {
+			// 처음 보는 키면 가득 찬 버킷을 만든다 (이미 있으면 무시)
+			jdbcTemplate.update("INSERT IGNORE INTO login_attempt(bucketKey, tokens, updatedAt) VALUES (?, ?, ?)",
+					key, capacity, now);
+
+			List<Object[]> rows = jdbcTemplate.query(
+					"SELECT tokens, updatedAt FROM login_attempt WHERE bucketKey = ? FOR UPDATE",
+					(rs, rowNum) -> new Object[] { rs.getDouble(1), rs.getLong(2) }, key);
+			double tokens = Math.min(capacity,
+					(double) rows.get(0)[0] + Math.max(0, now - (long) rows.get(0)[1]) * refillPerMillis);
+			if (tokens < 1) {
+				return false;
+			}
+			jdbcTemplate.update("UPDATE login_attempt SET tokens = ?, updatedAt = ? WHERE bucketKey = ?",
+					tokens - 1, now, key);
+			return true;
+		});
+		return Boolean.TRUE.equals(allowed);
+	}
+
+	@Override
+	public void reset(String key) {
+		jdbcTemplate.update("DELETE FROM login_attempt WHERE bucketKey = ?", key);
+	}
+
+	@Override
+	public void evictIdle(long idleBefore) {
+		jdbcTemplate.update("DELETE FROM login_attempt WHERE updatedAt < ?", idleBefore);
+	}
+
+	@Override
+	public int size() {
+		Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM login_attempt", Integer.class);
+		return count == null ? 0 : count;
+	}
+}
@@ -0,0 +1,81 @@
+package com.cos.petproject.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+// DB 인증번호 저장소 (authemail 테이블, 서버가 여러대일 때)
+// 이메일당 한 행만 두고 (email, authKey) 인덱스로 조회, 만료된 행은 주기적으로 지운다.
+@ConditionalOnProperty(name = "verification.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Component
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public void put(String email, String code, long expiresAt) {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("DELETE FROM authemail WHERE email = ?", email);
+			jdbcTemplate.update("INSERT INTO authemail(email, authKey, expiresAt, attempts) VALUES (?, ?, ?, 0)",
+					email, code, expiresAt);
+		});
+	}
+
+	@Override
+	public boolean verify(String email, String code, int maxAttempts, long now) {
+		// 비교하기 전에 시도 한 번을 먼저 잡는다 (한 문장이라 동시에 틀려도 maxAttempts 를 넘지 않음)
+		int reserved = jdbcTemplate.update(
+				"UPDATE authemail SET attempts = attempts + 1 WHERE email = ? AND attempts < ? AND expiresAt > ?",
+				email, maxAttempts, now);
+		if (reserved == 0) {
+			return false; // 없음, 만료, 또는 시도 횟수 초과
+		}
+		List<String> rows = jdbcTemplate.queryForList("SELECT authKey FROM authemail WHERE email = ?", String.class,
+				email);
+		if (rows.isEmpty()) {
+			return false;
+		}
+		// 번호는 WHERE 에 넣지 않고 꺼내서 고정 시간 비교
+		if (MessageDigest.isEqual(rows.get(0).getBytes(StandardCharsets.UTF_8),
+				code.getBytes(StandardCharsets.UTF_8))) {
+			// 맞으면 돌려준다 (가입 시 다시 확인하므로 틀린 횟수만 센다)
+			jdbcTemplate.update("UPDATE authemail SET attempts = attempts - 1 WHERE email = ? AND attempts > 0", email);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isOutstanding(String code, long now) {
+		Integer count = jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM authemail WHERE authKey = ? AND expiresAt > ?", Integer.class, code, now);
+		return count != null && count > 0;
+	}
+
+	@Override
+	public void remove(String email) {
+		jdbcTemplate.update("DELETE FROM authemail WHERE email = ?", email);
+	}
+
+	@Override
+	public int size() {
+		Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM authemail", Integer.class);
+		return count == null ? 0 : count;
+	}
+
+	// 만료된 인증번호 정리 (expiresAt 인덱스)
+	@Scheduled(fixedDelayString = "${verification.purge-interval-ms:60000}")
+	public void purgeExpired() {
+		jdbcTemplate.update("DELETE FROM authemail WHERE expiresAt <= ?", System.currentTimeMillis());
+	}
+}
@@ -0,0 +1,17 @@
+package com.cos.petproject.service;
+
+// 로그인 시도 토큰 버킷 저장소
+// 서버 한대면 MemoryLoginAttemptStore, 여러대면 JdbcLoginAttemptStore (login.throttle.store)
+public interface LoginAttemptStore {
+
+	// 버킷에 남은 토큰이 있으면 하나 쓰고 true (버킷이 없으면 가득 찬 상태로 시작)
+	boolean tryConsume(String key, int capacity, double refillPerMillis, long now);
+
+	// 로그인 성공 시 버킷 제거
+	void reset(String key);
+
+	// 오래 안 쓴(이미 가득 찼을) 버킷 정리
+	void evictIdle(long idleBefore);
+
+	int size();
+}
@@ -0,0 +1,64 @@
+package com.cos.petproject.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 로그인 시도 제한 (아이디별, IP 별 토큰 버킷)
+// 제한에 걸리면 비밀번호 해시나 DB 조회 전에 바로 거절한다.
+// 버킷은 capacity 번까지 연속으로 시도할 수 있고, 1분에 refill-per-minute 개씩 다시 채워진다.
+@Service
+public class LoginThrottle {
+
+	private final LoginAttemptStore store;
+
+	private final int userCapacity;
+	private final double userRefillPerMillis;
+	private final int ipCapacity;
+	private final double ipRefillPerMillis;
+	private final long idleMillis;
+
+	private final Counter allowed;
+	private final Counter rejected;
+
+	public LoginThrottle(LoginAttemptStore store,
+			@Value("${login.throttle.user-capacity:5}") int userCapacity,
+			@Value("${login.throttle.user-refill-per-minute:5}") double userRefillPerMinute,
+			@Value("${login.throttle.ip-capacity:20}") int ipCapacity,
+			@Value("${login.throttle.ip-refill-per-minute:20}") double ipRefillPerMinute,
+			@Value("${login.throttle.idle-ms:600000}") long idleMillis,
+			MeterRegistry meterRegistry) {
+		this.store = store;
+		this.userCapacity = userCapacity;
+		this.userRefillPerMillis = userRefillPerMinute / 60000;
+		this.ipCapacity = ipCapacity;
+		this.ipRefillPerMillis = ipRefillPerMinute / 60000;
+		this.idleMillis = idleMillis;
+		this.allowed = meterRegistry.counter("login.throttle.allowed");
+		this.rejected = meterRegistry.counter("login.throttle.rejected");
+		meterRegistry.gauge("login.throttle.buckets", store, LoginAttemptStore::size);
+	}
+
+	// 로그인 시도 가능하면 true (IP 를 먼저 확인해서 아이디를 바꿔가며 시도하는 경우도 막는다)
+	public boolean tryAcquire(String username, String ip) {
+		long now = System.currentTimeMillis();
+		boolean ok = store.tryConsume("ip:" + ip, ipCapacity, ipRefillPerMillis, now)
+				&& store.tryConsume("u:" + username, userCapacity, userRefillPerMillis, now);
+		(ok ? allowed : rejected).increment();
+		return ok;
+	}
+
+	// 로그인 성공하면 아이디 버킷은 다시 가득 찬 상태로
+	public void succeeded(String username) {
+		store.reset("u:" + username);
+	}
+
+	// idle-ms 동안 시도가 없던 버킷은 이미 다 채워졌으므로 지워도 결과가 같다
+	@Scheduled(fixedDelayString = "${login.throttle.idle-ms:600000}")
+	public void evictIdle() {
+		store.evictIdle(System.currentTimeMillis() - idleMillis);
+	}
+}
@@ -0,0 +1,258 @@
+package com.cos.petproject.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.cos.petproject.domain.mail.MailDeadLetter;
+import com.cos.petproject.domain.mail.MailDeadLetterRepository;
+import com.cos.petproject.domain.mail.MailOutbox;
+import com.cos.petproject.domain.mail.MailOutboxRepository;
+import com.cos.petproject.handler.MailHandler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 메일 발송 큐 (outbox)
+// 요청 스레드는 mail_outbox 에 저장만 하고, 트랜잭션이 커밋된 뒤 워커 스레드가 SMTP 로 보낸다.
+// 워커는 큐에 쌓인 메일을 batch-size 개까지 모아서 한번에 보낸다. (JavaMailSender.send(MimeMessage...) 는 한 연결로 여러 통을 보냄)
+// 워커 큐가 가득 찼거나 서버가 죽어서 못 보낸 메일은 poller 가 주기적으로 다시 가져가서 같은 방식으로 보낸다.
+// 실패하면 지수 백오프로 다시 시도하고, max-attempts 번 실패하면 mail_dead_letter 로 옮긴다.
+@Service
+public class MailOutboxService {
+
+	public static final String FROM_ADDRESS = "greenpetproject@gamil.com";
+
+	private final MailOutboxRepository mailOutboxRepository;
+	private final MailDeadLetterRepository mailDeadLetterRepository;
+	private final JavaMailSender mailSender;
+	private final ApplicationEventPublisher publisher;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long backoffMillis;
+	private final long maxBackoffMillis;
+	private final long leaseMillis;
+
+	private final BlockingQueue<Long> queued; // 커밋된 메일 id (워커가 꺼내 감)
+	private final ExecutorService workers;
+	private final AtomicLong depth = new AtomicLong(); // 마지막으로 확인한 mail_outbox 건수
+
+	private final Timer latency;
+	private final Counter sent;
+	private final Counter failed;
+	private final Counter dead;
+
+	public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+			MailDeadLetterRepository mailDeadLetterRepository, JavaMailSender mailSender,
+			ApplicationEventPublisher publisher, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+			@Value("${mail.workers:2}") int workerCount,
+			@Value("${mail.queue-capacity:100}") int queueCapacity,
+			@Value("${mail.batch-size:20}") int batchSize,
+			@Value("${mail.max-attempts:5}") int maxAttempts,
+			@Value("${mail.backoff-ms:30000}") long backoffMillis,
+			@Value("${mail.max-backoff-ms:3600000}") long maxBackoffMillis,
+			@Value("${mail.lease-ms:120000}") long leaseMillis) {
+		this.mailOutboxRepository = mailOutboxRepository;
+		this.mailDeadLetterRepository = mailDeadLetterRepository;
+		this.mailSender = mailSender;
+		this.publisher = publisher;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.backoffMillis = backoffMillis;
+		this.maxBackoffMillis = maxBackoffMillis;
+		this.leaseMillis = leaseMillis;
+
+		this.queued = new ArrayBlockingQueue<>(queueCapacity);
+		AtomicInteger threadNo = new AtomicInteger();
+		this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+			Thread t = new Thread(r, "mail-" + threadNo.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		for (int i = 0; i < workerCount; i++) {
+			workers.execute(this::work);
+		}
+
+		this.latency = meterRegistry.timer("mail.send.latency");
+		this.sent = meterRegistry.counter("mail.sent");
+		this.failed = meterRegistry.counter("mail.failed");
+		this.dead = meterRegistry.counter("mail.dead");
+		meterRegistry.gauge("mail.outbox.depth", depth);
+		meterRegistry.gauge("mail.worker.queue", queued, BlockingQueue::size);
+	}
+
+	// 메일 저장 (호출한 쪽 트랜잭션에 같이 묶인다, 실제 발송은 커밋 후)
+	@Transactional
+	public long enqueue(String to, String subject, String htmlContent) {
+		MailOutbox outbox = new MailOutbox();
+		outbox.setToAddress(to);
+		outbox.setSubject(subject);
+		outbox.setContent(htmlContent);
+		mailOutboxRepository.save(outbox);
+		publisher.publishEvent(new MailQueuedEvent(outbox.getId()));
+		return outbox.getId();
+	}
+
+	// 커밋된 메일은 바로 워커에게 (롤백되면 호출되지 않음)
+	// 워커 큐가 가득 차면 다음 poll 때 보낸다
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onQueued(MailQueuedEvent event) {
+		queued.offer(event.getOutboxId());
+	}
+
+	// 한 통이 들어올 때까지 기다렸다가 그동안 쌓인 메일까지 batch-size 개씩 모아서 보낸다
+	private void work() {
+		List<Long> batch = new ArrayList<>(batchSize);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				batch.add(queued.take());
+				queued.drainTo(batch, batchSize - 1);
+				send(batch);
+			} catch (InterruptedException e) {
+				return;
+			} catch (RuntimeException e) {
+				System.out.println("메일 발송 실패 (다음 poll 때 다시 보냄) : " + e.getMessage());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	// 못 보낸 메일 다시 가져가기
+	@Scheduled(fixedDelayString = "${mail.poll-interval-ms:10000}")
+	public void poll() {
+		List<Long> due;
+		do {
+			due = mailOutboxRepository.mFindDue(LocalDateTime.now(), batchSize);
+			send(due);
+		} while (due.size() == batchSize);
+		depth.set(mailOutboxRepository.count());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+
+	// 발송 권한을 가져온 메일만 모아서 한번에 보낸다
+	void send(List<Long> ids) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime leaseUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+
+		Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+		for (Long id : ids) {
+			if (mailOutboxRepository.mClaim(id, now, leaseUntil) == 0) {
+				continue; // 다른 워커가 보내는 중
+			}
+			MailOutbox outbox = mailOutboxRepository.findById(id).orElse(null);
+			if (outbox == null) {
+				continue;
+			}
+			try {
+				messages.put(toMessage(outbox), outbox);
+			} catch (MessagingException e) {
+				failed(outbox, e); // 주소 형식이 잘못된 경우 등
+			}
+		}
+		if (messages.isEmpty()) {
+			return;
+		}
+
+		Map<Object, Exception> failures = Collections.emptyMap();
+		long start = System.nanoTime();
+		try {
+			mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+		} catch (MailSendException e) {
+			failures = e.getFailedMessages();
+			if (failures.isEmpty()) { // 연결 실패 등 -> 전부 실패
+				failures = allFailed(messages, e);
+			}
+		} catch (MailException e) {
+			failures = allFailed(messages, e);
+		}
+		latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+		for (Map.Entry<MimeMessage, MailOutbox> entry : messages.entrySet()) {
+			Exception error = failures.get(entry.getKey());
+			if (error == null) {
+				mailOutboxRepository.deleteById(entry.getValue().getId());
+				sent.increment();
+			} else {
+				failed(entry.getValue(), error);
+			}
+		}
+	}
+
+	private MimeMessage toMessage(MailOutbox outbox) throws MessagingException {
+		MailHandler mailHandler = new MailHandler(mailSender);
+		mailHandler.setTo(outbox.getToAddress());
+		mailHandler.setFrom(FROM_ADDRESS);
+		mailHandler.setSubject(outbox.getSubject());
+		mailHandler.setText(outbox.getContent(), true);
+		return mailHandler.getMessage();
+	}
+
+	private static Map<Object, Exception> allFailed(Map<MimeMessage, MailOutbox> messages, Exception e) {
+		Map<Object, Exception> failures = new IdentityHashMap<>();
+		for (MimeMessage message : messages.keySet()) {
+			failures.put(message, e);
+		}
+		return failures;
+	}
+
+	// 실패 처리 (재시도 예약 또는 dead letter 로 이동)
+	private void failed(MailOutbox outbox, Exception e) {
+		failed.increment();
+		int attempts = outbox.getAttempts() + 1;
+		String error = truncate(String.valueOf(e.getMessage()), 500);
+
+		if (attempts >= maxAttempts) {
+			transactionTemplate.executeWithoutResult(status -> {
+				mailDeadLetterRepository.save(new MailDeadLetter(outbox.getId(), outbox.getToAddress(),
+						outbox.getSubject(), outbox.getContent(), attempts, error, outbox.getCreatedAt(),
+						LocalDateTime.now()));
+				mailOutboxRepository.deleteById(outbox.getId());
+			});
+			dead.increment();
+			return;
+		}
+
+		long delay = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempts - 1, 20));
+		mailOutboxRepository.mFailed(outbox.getId(), error, LocalDateTime.now().plus(delay, ChronoUnit.MILLIS));
+	}
+
+	private static String truncate(String s, int max) {
+		return s.length() <= max ? s : s.substring(0, max);
+	}
+}
@@ -0,0 +1,11 @@
+package com.cos.petproject.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// mail_outbox 에 메일이 저장된 뒤 발행되는 이벤트 (커밋 후 바로 발송하기 위해)
+@AllArgsConstructor
+@Getter
+public class MailQueuedEvent {
+	private final long outboxId;
+}
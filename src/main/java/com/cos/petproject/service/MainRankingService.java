@@ -0,0 +1,75 @@
+package com.cos.petproject.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.domain.boast.BoastRepository;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.util.HtmlImage;
+import com.cos.petproject.util.MainRankInterface;
+import com.cos.petproject.util.MediaRendition;
+import com.cos.petproject.web.dto.MainRankRespDto;
+
+// 메인페이지 인기글 스냅샷
+// 요청마다 정렬 쿼리 + 본문 파싱을 하지 않고, 주기적으로(또는 조회수 반영 직후) 만들어둔 목록을 보여준다.
+@Service
+public class MainRankingService {
+
+	private final BoastRepository boastRepository;
+	private final int size;
+
+	private volatile List<MainRankRespDto> snapshot;
+
+	public MainRankingService(BoastRepository boastRepository, @Value("${main.rank-size:3}") int size) {
+		this.boastRepository = boastRepository;
+		this.size = size;
+	}
+
+	public List<MainRankRespDto> getRanks() {
+		List<MainRankRespDto> ranks = snapshot;
+		if (ranks == null) {
+			ranks = refresh();
+		}
+		return ranks;
+	}
+
+	@Scheduled(fixedDelayString = "${main.rank-refresh-ms:60000}")
+	public void scheduledRefresh() {
+		refresh();
+	}
+
+	// 자랑하기 조회수가 반영되면 순위도 다시 계산
+	@EventListener
+	public void onViewCountFlushed(ViewCountFlushedEvent event) {
+		if (event.getBoardTypes().contains(BoardType.BOAST)) {
+			refresh();
+		}
+	}
+
+	public synchronized List<MainRankRespDto> refresh() {
+		List<MainRankRespDto> ranks = new ArrayList<>(size);
+		for (MainRankInterface rank : boastRepository.mMain(size)) {
+			ranks.add(new MainRankRespDto(rank.getId(), rank.getAnimalId(), rank.getTitle(), rank.getCounter(),
+					MediaRendition.CARD.url(thumbnailOf(rank))));
+		}
+		snapshot = Collections.unmodifiableList(ranks);
+		return snapshot;
+	}
+
+	// 썸네일 컬럼이 생기기 전에 쓴 글(null)만 한번 본문을 파싱해서 채워둔다
+	// 빈 문자열은 이미지가 없거나 base64 이미지만 있는 글 (media 이전 전까지 기본 이미지), 본문을 다시 읽지 않는다
+	private String thumbnailOf(MainRankInterface rank) {
+		String thumbnailUrl = rank.getThumbnailUrl();
+		if (thumbnailUrl == null) {
+			thumbnailUrl = HtmlImage.firstSrc(boastRepository.mFindContent(rank.getId()));
+			boastRepository.mUpdateThumbnailUrl(rank.getId(), thumbnailUrl);
+		}
+		return HtmlImage.isThumbnail(thumbnailUrl) ? thumbnailUrl : ""; // 규칙이 바뀌기 전에 저장된 짧은 base64
+	}
+}
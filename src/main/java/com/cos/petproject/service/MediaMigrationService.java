@@ -0,0 +1,118 @@
+package com.cos.petproject.service;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PreDestroy;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.util.BoardContent;
+import com.cos.petproject.util.BoardType;
+
+import lombok.RequiredArgsConstructor;
+
+// 본문에 base64(data:image/...) 로 들어가 있는 이미지를 MediaStore 로 옮기고
+// 본문에는 /media/{hash} 주소만 남긴다. (관리자가 한번 실행하는 작업)
+@RequiredArgsConstructor
+@Service
+public class MediaMigrationService {
+
+	// 한번에 읽을 게시글 수 (본문이 크기 때문에 작게)
+	private static final int CHUNK = 20;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MediaStore mediaStore;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "media-migration");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// 백그라운드에서 실행 (이미 실행중이면 false)
+	public boolean start() {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		executor.execute(() -> {
+			try {
+				for (BoardType type : BoardType.values()) {
+					int migrated = migrate(type);
+					System.out.println(type.getTable() + " 이미지 이전 완료 : " + migrated + "건");
+				}
+			} finally {
+				running.set(false);
+			}
+		});
+		return true;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	// id 순서대로 조금씩 읽어서 처리 (중간에 멈춰도 다시 실행하면 남은 글만 처리된다)
+	private int migrate(BoardType type) {
+		int migrated = 0;
+		int lastId = 0;
+
+		while (true) {
+			List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT id, content, createdAt FROM " + type.getTable()
+					+ " WHERE id > ? AND content LIKE '%data:image/%' ORDER BY id LIMIT " + CHUNK, lastId);
+			if (rows.isEmpty()) {
+				return migrated;
+			}
+
+			for (Map<String, Object> row : rows) {
+				lastId = ((Number) row.get("id")).intValue();
+				String content = (String) row.get("content");
+				try {
+					String replaced = externalize(content);
+					if (!replaced.equals(content) && update(type, lastId, replaced, row.get("createdAt"))) {
+						migrated++;
+					}
+				} catch (Exception e) {
+					System.out.println(type.getTable() + " " + lastId + "번 글 이미지 이전 실패 : " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	// 본문 문자열에서 data URI 부분만 주소로 바꾼다 (나머지 마크업은 그대로 유지)
+	private String externalize(String content) throws Exception {
+		String replaced = content;
+		for (Element img : Jsoup.parseBodyFragment(content).select("img[src^=data:image/]")) {
+			String src = img.attr("src");
+			int comma = src.indexOf(',');
+			if (comma < 0 || !src.substring(0, comma).endsWith(";base64")) {
+				continue;
+			}
+			byte[] bytes = Base64.getMimeDecoder().decode(src.substring(comma + 1));
+			String hash = mediaStore.store(new ByteArrayInputStream(bytes));
+			replaced = replaced.replace(src, MediaStore.urlOf(hash));
+		}
+		return replaced;
+	}
+
+	// 읽은 뒤에 수정된 글은 (createdAt 이 바뀜) 덮어쓰지 않는다, 다시 실행하면 그때 처리된다
+	private boolean update(BoardType type, int id, String content, Object createdAt) {
+		return jdbcTemplate.update("UPDATE " + type.getTable()
+				+ " SET content = ?, thumbnailUrl = ? WHERE id = ? AND createdAt <=> ?", content,
+				BoardContent.of(content).getThumbnailUrl(), id, createdAt) > 0;
+	}
+}
@@ -0,0 +1,415 @@
+package com.cos.petproject.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.w3c.dom.NodeList;
+
+import com.cos.petproject.util.MediaRendition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 게시글 이미지 크기별 사본 (목록 썸네일, 메인 카드, 상세 본문)
+// 처음 요청될 때 원본을 줄여서 {media.rendition-root}/{이름}/ab/{hash} 에 저장하고 이후에는 파일을 그대로 보낸다.
+// 사본 전체 크기가 max-bytes 를 넘으면 가장 오래 안 쓴 사본부터 지운다. (원본은 지우지 않음, 다시 요청되면 다시 만든다)
+// 원본이 사본보다 작거나, ImageIO 로 읽을 수 없는 형식(webp 등)이거나, 움직이는 gif 일 수 있는 gif 는 원본을 보낸다.
+@Service
+public class MediaRenditionService {
+
+	// 이보다 큰 이미지는 줄이지 않는다 (메모리 보호)
+	private static final long MAX_PIXELS = 50_000_000L;
+	private static final float JPEG_QUALITY = 0.85f;
+	// find() 가 돌려준 뒤 이 시간 동안은 지우지 않는다 (톰캣 sendfile 이 파일을 여는 건 컨트롤러가 끝난 뒤)
+	private static final long EVICT_GRACE_MILLIS = 60_000L;
+	// 만들기에 실패한 사본을 기억하는 최대 개수 (넘으면 비우고 다시 시도)
+	private static final int MAX_FAILED = 10_000;
+
+	private final MediaStore mediaStore;
+	private final Path root;
+	private final long maxBytes;
+	private final Semaphore workers; // 동시에 줄이는 이미지 수 (CPU, 메모리 사용량 제한)
+	private final long waitMillis; // 자리가 없을 때 기다리는 시간 (넘으면 원본을 보낸다)
+	private final Set<Path> failed = ConcurrentHashMap.newKeySet(); // ImageIO 가 못 읽은 사본 (다시 시도하지 않고 원본)
+
+	private final Map<Path, Entry> files = new LinkedHashMap<>(16, 0.75f, true); // 사본 -> 크기, 마지막 사용 (오래 안 쓴 순)
+	private long bytes; // files 락 안에서만 읽고 쓴다
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Timer generateTimer;
+
+	public MediaRenditionService(MediaStore mediaStore,
+			@Value("${media.rendition-root:./media/renditions}") String root,
+			@Value("${media.rendition-max-bytes:536870912}") long maxBytes,
+			@Value("${media.rendition-workers:2}") int workers,
+			@Value("${media.rendition-wait-ms:2000}") long waitMillis, MeterRegistry meterRegistry) throws IOException {
+		this.mediaStore = mediaStore;
+		this.root = Paths.get(root).toAbsolutePath().normalize();
+		this.maxBytes = maxBytes;
+		this.workers = new Semaphore(workers);
+		this.waitMillis = waitMillis;
+
+		this.hits = meterRegistry.counter("media.rendition.hit");
+		this.misses = meterRegistry.counter("media.rendition.miss");
+		this.generateTimer = meterRegistry.timer("media.rendition.generate");
+		meterRegistry.gauge("media.rendition.bytes", this, MediaRenditionService::bytes);
+
+		Files.createDirectories(this.root.resolve("tmp"));
+		load();
+	}
+
+	// 보낼 파일 (원본이 없으면 null, 줄일 필요가 없거나 줄일 수 없으면 원본)
+	public Path find(String hash, MediaRendition rendition) throws IOException {
+		Path original = mediaStore.find(hash);
+		if (original == null || rendition == null) {
+			return original;
+		}
+
+		Path path = root.resolve(rendition.getName()).resolve(hash.substring(0, 2)).resolve(hash);
+		synchronized (files) {
+			Entry entry = files.get(path); // access-order 갱신
+			if (entry != null) {
+				entry.used = System.currentTimeMillis();
+				hits.increment();
+				return path;
+			}
+		}
+		if (failed.contains(path)) {
+			return original;
+		}
+		return generate(original, path, rendition.getWidth());
+	}
+
+	private Path generate(Path original, Path path, int width) throws IOException {
+		try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+			Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+			if (readers == null || !readers.hasNext()) {
+				return original;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, false);
+				if (reader.getFormatName().equalsIgnoreCase("gif")) {
+					return original;
+				}
+
+				// 크기와 회전 정보는 헤더만 읽어서 확인
+				int orientation = reader.getFormatName().equalsIgnoreCase("jpeg")
+						? exifOrientation(reader.getImageMetadata(0))
+						: 1;
+				int sourceWidth = reader.getWidth(0);
+				int sourceHeight = reader.getHeight(0);
+				int shownWidth = orientation >= 5 ? sourceHeight : sourceWidth;
+				if (shownWidth <= width || (long) sourceWidth * sourceHeight > MAX_PIXELS) {
+					return original;
+				}
+
+				try {
+					if (!workers.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+						return original; // 밀려 있으면 이번에는 원본 (다음 요청 때 다시 만든다)
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return original;
+				}
+				try {
+					synchronized (files) {
+						Entry entry = files.get(path);
+						if (entry != null) { // 기다리는 사이에 다른 요청이 만들었음
+							entry.used = System.currentTimeMillis();
+							hits.increment();
+							return path;
+						}
+					}
+					misses.increment();
+					long start = System.nanoTime();
+
+					// 목표보다 2배 이상 크면 읽을 때부터 픽셀을 건너뛰어서 메모리를 아낀다
+					ImageReadParam param = reader.getDefaultReadParam();
+					int step = Math.max(1, shownWidth / (width * 2));
+					param.setSourceSubsampling(step, step, 0, 0);
+					BufferedImage image = scale(orient(reader.read(0, param), orientation), width);
+
+					store(image, path);
+					generateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					return path;
+				} finally {
+					workers.release();
+				}
+			} catch (IOException | RuntimeException e) {
+				// CMYK jpeg 등 ImageIO 가 못 읽는 이미지 (기억해두고 다음부터는 바로 원본)
+				System.out.println(original.getFileName() + " 이미지 사본 생성 실패 : " + e.getMessage());
+				if (failed.size() >= MAX_FAILED) {
+					failed.clear();
+				}
+				failed.add(path);
+				return original;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 임시파일에 쓴 뒤 옮긴다 (보내는 중인 파일이 덜 써진 상태로 보이지 않도록)
+	private void store(BufferedImage image, Path path) throws IOException {
+		Path tmp = Files.createTempFile(root.resolve("tmp"), "rendition", null);
+		try {
+			if (image.getColorModel().hasAlpha()) {
+				ImageIO.write(image, "png", tmp.toFile());
+			} else {
+				writeJpeg(image, tmp);
+			}
+			Files.createDirectories(path.getParent());
+			Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+
+		long size = Files.size(path);
+		synchronized (files) {
+			Entry old = files.put(path, new Entry(size, System.currentTimeMillis()));
+			if (old != null) {
+				bytes -= old.size;
+			}
+			bytes += size;
+			evictLocked(path);
+		}
+	}
+
+	// 앞쪽이 가장 오래 안 쓴 사본
+	// 방금 내준 사본까지 오면 멈춘다 (잠시 max-bytes 를 넘을 수 있음, 다음 store 때 다시 지운다)
+	private void evictLocked(Path keep) {
+		long recent = System.currentTimeMillis() - EVICT_GRACE_MILLIS;
+		Iterator<Map.Entry<Path, Entry>> it = files.entrySet().iterator();
+		while (bytes > maxBytes && it.hasNext()) {
+			Map.Entry<Path, Entry> eldest = it.next();
+			if (eldest.getKey().equals(keep)) {
+				continue;
+			}
+			if (eldest.getValue().used > recent) {
+				break; // 뒤쪽은 모두 더 최근에 쓴 사본
+			}
+			try {
+				Files.deleteIfExists(eldest.getKey());
+			} catch (IOException e) {
+				continue; // 다음에 다시 시도
+			}
+			bytes -= eldest.getValue().size;
+			it.remove();
+		}
+	}
+
+	private double bytes() {
+		synchronized (files) {
+			return bytes;
+		}
+	}
+
+	// 서버 시작 시 디스크에 남아있는 사본 목록 (수정시간이 오래된 파일을 오래 안 쓴 것으로)
+	private void load() throws IOException {
+		Path tmp = root.resolve("tmp");
+		List<Path> found;
+		try (Stream<Path> walk = Files.walk(root)) {
+			found = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+		}
+		found.sort(Comparator.comparingLong(p -> p.toFile().lastModified()));
+
+		synchronized (files) {
+			for (Path path : found) {
+				if (path.startsWith(tmp)) {
+					Files.deleteIfExists(path); // 만들다 만 파일
+					continue;
+				}
+				long size = Files.size(path);
+				files.put(path, new Entry(size, 0L));
+				bytes += size;
+			}
+			evictLocked(null);
+		}
+	}
+
+	private static class Entry {
+		private final long size;
+		private long used; // files 락 안에서만 읽고 쓴다
+
+		private Entry(long size, long used) {
+			this.size = size;
+			this.used = used;
+		}
+	}
+
+	private static void writeJpeg(BufferedImage image, Path path) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		try (ImageOutputStream out = ImageIO.createImageOutputStream(path.toFile())) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+			writer.setOutput(out);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	// 가로 width 로 줄이기 (한번에 많이 줄이면 계단현상이 생기므로 절반씩 나눠서)
+	private static BufferedImage scale(BufferedImage source, int width) {
+		int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+		int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+		BufferedImage current = source;
+		int w = source.getWidth();
+		int h = source.getHeight();
+		do {
+			w = Math.max(width, w / 2);
+			h = Math.max(height, h / 2);
+			current = draw(current, w, h, type, null);
+		} while (w != width || h != height);
+		return current;
+	}
+
+	// 휴대폰 사진은 EXIF 회전값대로 돌려야 원본을 브라우저에서 볼 때와 같은 방향이 된다
+	private static BufferedImage orient(BufferedImage source, int orientation) {
+		int w = source.getWidth();
+		int h = source.getHeight();
+		AffineTransform transform;
+		switch (orientation) {
+		case 2: // 좌우 반전
+			transform = new AffineTransform(-1, 0, 0, 1, w, 0);
+			break;
+		case 3: // 180도
+			transform = new AffineTransform(-1, 0, 0, -1, w, h);
+			break;
+		case 4: // 상하 반전
+			transform = new AffineTransform(1, 0, 0, -1, 0, h);
+			break;
+		case 5: // 대각선 반전
+			transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+			break;
+		case 6: // 시계방향 90도
+			transform = new AffineTransform(0, 1, -1, 0, h, 0);
+			break;
+		case 7: // 반대 대각선 반전
+			transform = new AffineTransform(0, -1, -1, 0, h, w);
+			break;
+		case 8: // 반시계방향 90도
+			transform = new AffineTransform(0, -1, 1, 0, 0, w);
+			break;
+		default:
+			return source;
+		}
+		int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		return orientation >= 5 ? draw(source, h, w, type, transform) : draw(source, w, h, type, transform);
+	}
+
+	private static BufferedImage draw(BufferedImage source, int width, int height, int type, AffineTransform transform) {
+		BufferedImage target = new BufferedImage(width, height, type);
+		Graphics2D g = target.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			if (transform == null) {
+				g.drawImage(source, 0, 0, width, height, null);
+			} else {
+				g.drawImage(source, transform, null);
+			}
+		} finally {
+			g.dispose();
+		}
+		return target;
+	}
+
+	// jpeg APP1(EXIF) 의 Orientation(0x0112) 값 (없으면 1)
+	private static int exifOrientation(IIOMetadata metadata) {
+		if (metadata == null) {
+			return 1;
+		}
+		try {
+			IIOMetadataNode tree = (IIOMetadataNode) metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+			NodeList markers = tree.getElementsByTagName("unknown");
+			for (int i = 0; i < markers.getLength(); i++) {
+				IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+				if ("225".equals(marker.getAttribute("MarkerTag")) && marker.getUserObject() instanceof byte[]) {
+					int orientation = exifOrientation((byte[]) marker.getUserObject());
+					if (orientation > 0) {
+						return orientation;
+					}
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			// jpeg 메타데이터 형식이 아님
+		}
+		return 1;
+	}
+
+	// "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation 찾기 (없으면 0)
+	private static int exifOrientation(byte[] data) {
+		if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i' || data[3] != 'f') {
+			return 0;
+		}
+		int tiff = 6;
+		boolean little = data[tiff] == 'I';
+		int ifd = tiff + readInt(data, tiff + 4, little);
+		if (ifd < tiff || ifd + 2 > data.length) {
+			return 0;
+		}
+		int count = readShort(data, ifd, little);
+		for (int i = 0; i < count; i++) {
+			int entry = ifd + 2 + i * 12;
+			if (entry + 12 > data.length) {
+				return 0;
+			}
+			if (readShort(data, entry, little) == 0x0112) {
+				return readShort(data, entry + 8, little);
+			}
+		}
+		return 0;
+	}
+
+	private static int readShort(byte[] data, int offset, boolean little) {
+		int a = data[offset] & 0xff;
+		int b = data[offset + 1] & 0xff;
+		return little ? (b << 8) | a : (a << 8) | b;
+	}
+
+	private static int readInt(byte[] data, int offset, boolean little) {
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+			int shift = little ? i * 8 : (3 - i) * 8;
+			value |= (data[offset + i] & 0xff) << shift;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,109 @@
+package com.cos.petproject.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.util.Hex;
+
+// 게시글 이미지 저장소
+// 파일 내용의 SHA-256 값을 이름으로 저장하므로 같은 이미지는 한번만 저장된다.
+// 저장 경로 : {media.root}/ab/cd/abcd1234...
+@Service
+public class MediaStore {
+
+	public static final String URL_PREFIX = "/media/";
+
+	private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+	private final Path root;
+
+	public MediaStore(@Value("${media.root:./media}") String root) throws IOException {
+		this.root = Paths.get(root).toAbsolutePath().normalize();
+		Files.createDirectories(this.root.resolve("tmp"));
+	}
+
+	// 저장 후 해시값 리턴 (이미 있는 이미지면 임시파일만 지운다)
+	public String store(InputStream in) throws IOException {
+		Path tmp = Files.createTempFile(root.resolve("tmp"), "upload", null);
+		try {
+			DigestInputStream digestIn = new DigestInputStream(in, sha256());
+			Files.copy(digestIn, tmp, StandardCopyOption.REPLACE_EXISTING);
+
+			if (contentType(tmp) == null) {
+				throw new IOException("이미지 파일만 올릴 수 있습니다.");
+			}
+
+			String hash = Hex.encode(digestIn.getMessageDigest().digest());
+			Path target = pathOf(hash);
+			if (!Files.exists(target)) {
+				Files.createDirectories(target.getParent());
+				Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+			}
+			return hash;
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	// 해시값에 해당하는 파일 (잘못된 해시거나 없으면 null)
+	public Path find(String hash) {
+		if (hash == null || !HASH.matcher(hash).matches()) {
+			return null;
+		}
+		Path path = pathOf(hash);
+		return Files.isRegularFile(path) ? path : null;
+	}
+
+	public static String urlOf(String hash) {
+		return URL_PREFIX + hash;
+	}
+
+	// 파일 앞부분으로 이미지 종류 판별 (이미지가 아니면 null)
+	public static String contentType(Path path) throws IOException {
+		byte[] head = new byte[12];
+		int read;
+		try (InputStream in = Files.newInputStream(path)) {
+			read = in.readNBytes(head, 0, head.length);
+		}
+		if (read >= 3 && (head[0] & 0xff) == 0xff && (head[1] & 0xff) == 0xd8 && (head[2] & 0xff) == 0xff) {
+			return "image/jpeg";
+		}
+		if (read >= 8 && (head[0] & 0xff) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+			return "image/png";
+		}
+		if (read >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F') {
+			return "image/gif";
+		}
+		if (read >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+				&& head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+			return "image/webp";
+		}
+		if (read >= 2 && head[0] == 'B' && head[1] == 'M') {
+			return "image/bmp";
+		}
+		return null;
+	}
+
+	private Path pathOf(String hash) {
+		return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
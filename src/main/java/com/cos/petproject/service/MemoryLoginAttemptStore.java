@@ -0,0 +1,59 @@
+package com.cos.petproject.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 메모리 토큰 버킷 (버킷마다 AtomicReference 로 CAS, 락 없음)
+@ConditionalOnProperty(name = "login.throttle.store", havingValue = "memory", matchIfMissing = true)
+@Component
+public class MemoryLoginAttemptStore implements LoginAttemptStore {
+
+	private final ConcurrentHashMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+
+	// 변경 불가 상태 (바꿀 때는 새로 만들어서 compareAndSet)
+	private static class Bucket {
+		private final double tokens;
+		private final long updatedAt;
+
+		private Bucket(double tokens, long updatedAt) {
+			this.tokens = tokens;
+			this.updatedAt = updatedAt;
+		}
+	}
+
+	@Override
+	public boolean tryConsume(String key, int capacity, double refillPerMillis, long now) {
+		AtomicReference<Bucket> ref = buckets.computeIfAbsent(key,
+				k -> new AtomicReference<>(new Bucket(capacity, now)));
+
+		while (true) {
+			Bucket current = ref.get();
+			double tokens = Math.min(capacity,
+					current.tokens + Math.max(0, now - current.updatedAt) * refillPerMillis);
+			if (tokens < 1) {
+				return false;
+			}
+			if (ref.compareAndSet(current, new Bucket(tokens - 1, now))) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public void reset(String key) {
+		buckets.remove(key);
+	}
+
+	@Override
+	public void evictIdle(long idleBefore) {
+		buckets.values().removeIf(ref -> ref.get().updatedAt < idleBefore);
+	}
+
+	@Override
+	public int size() {
+		return buckets.size();
+	}
+}
@@ -0,0 +1,150 @@
+package com.cos.petproject.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 메모리 인증번호 저장소
+// 만료는 timer wheel 로 처리한다. 만료 시각(tick 단위)마다 칸을 정해두고
+// tick 마다 지나간 칸에 있는 이메일만 확인하므로 전체를 훑지 않는다.
+// 칸 수보다 먼 만료 시각은 한 바퀴 더 돌고 지워진다.
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
+@Component
+public class MemoryVerificationCodeStore implements VerificationCodeStore {
+
+	private static final int WHEEL_SIZE = 512;
+
+	private final long tickMillis;
+	private final ConcurrentHashMap<String, Entry> codes = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, String> outstanding = new ConcurrentHashMap<>(); // 인증번호 -> 이메일
+	private final ConcurrentLinkedQueue<String>[] wheel;
+	private long lastTick; // 마지막으로 정리한 tick (tick() 에서만 사용)
+
+	private static class Entry {
+		private final String text;
+		private final byte[] code;
+		private final long expiresAt;
+		private final AtomicInteger attempts = new AtomicInteger();
+
+		private Entry(String text, long expiresAt) {
+			this.text = text;
+			this.code = text.getBytes(StandardCharsets.UTF_8);
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public MemoryVerificationCodeStore(@Value("${verification.tick-ms:1000}") long tickMillis) {
+		this.tickMillis = tickMillis;
+		this.wheel = new ConcurrentLinkedQueue[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new ConcurrentLinkedQueue<>();
+		}
+		this.lastTick = System.currentTimeMillis() / tickMillis;
+	}
+
+	@Override
+	public void put(String email, String code, long expiresAt) {
+		Entry previous = codes.put(email, new Entry(code, expiresAt));
+		if (previous != null) {
+			outstanding.remove(previous.text, email);
+		}
+		outstanding.put(code, email);
+		wheel[slot(tickOf(expiresAt))].offer(email);
+	}
+
+	@Override
+	public boolean verify(String email, String code, int maxAttempts, long now) {
+		Entry entry = codes.get(email);
+		if (entry == null || entry.expiresAt <= now) {
+			return false;
+		}
+		// 비교하기 전에 시도 횟수부터 올린다 (동시에 여러번 틀려도 maxAttempts 를 넘지 않도록)
+		if (entry.attempts.incrementAndGet() > maxAttempts) {
+			return false;
+		}
+		// 걸리는 시간으로 몇 글자가 맞았는지 알 수 없도록 고정 시간 비교
+		if (MessageDigest.isEqual(entry.code, code.getBytes(StandardCharsets.UTF_8))) {
+			entry.attempts.decrementAndGet(); // 맞으면 돌려준다 (가입 시 다시 확인하므로 틀린 횟수만 센다)
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isOutstanding(String code, long now) {
+		String email = outstanding.get(code);
+		if (email == null) {
+			return false;
+		}
+		Entry entry = codes.get(email);
+		return entry != null && entry.text.equals(code) && entry.expiresAt > now;
+	}
+
+	@Override
+	public void remove(String email) {
+		Entry entry = codes.remove(email); // 바퀴에 남은 이메일은 해당 칸을 정리할 때 같이 빠진다
+		if (entry != null) {
+			outstanding.remove(entry.text, email);
+		}
+	}
+
+	@Override
+	public int size() {
+		return codes.size();
+	}
+
+	// 지나간 칸 정리
+	@Scheduled(fixedDelayString = "${verification.tick-ms:1000}")
+	public synchronized void tick() {
+		long now = System.currentTimeMillis();
+		long currentTick = now / tickMillis;
+		// 오래 멈춰 있었어도 한 바퀴만 돌면 모든 칸을 확인한 것
+		long from = Math.max(lastTick + 1, currentTick - WHEEL_SIZE + 1);
+		for (long t = from; t <= currentTick; t++) {
+			expire(slot(t), now);
+		}
+		lastTick = currentTick;
+	}
+
+	private void expire(int slot, long now) {
+		ConcurrentLinkedQueue<String> bucket = wheel[slot];
+		List<String> later = new ArrayList<>();
+		String email;
+		int count = bucket.size();
+		// 정리하는 동안 들어온 이메일은 다음에 확인
+		while (count-- > 0 && (email = bucket.poll()) != null) {
+			Entry entry = codes.get(email);
+			if (entry == null) {
+				continue;
+			}
+			if (entry.expiresAt <= now) {
+				if (codes.remove(email, entry)) {
+					outstanding.remove(entry.text, email);
+				}
+			} else if (slot(tickOf(entry.expiresAt)) == slot) {
+				later.add(email); // 한 바퀴 뒤에 만료
+			}
+			// 그 외에는 새 번호로 바뀌어서 다른 칸에 들어가 있음
+		}
+		bucket.addAll(later);
+	}
+
+	// 만료 시각이 지난 뒤 처음 오는 tick
+	private long tickOf(long time) {
+		return (time + tickMillis - 1) / tickMillis;
+	}
+
+	private static int slot(long tick) {
+		return (int) (tick & (WHEEL_SIZE - 1));
+	}
+}
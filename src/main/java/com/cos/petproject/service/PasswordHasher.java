@@ -0,0 +1,104 @@
+package com.cos.petproject.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.util.MyAlgorithm;
+import com.cos.petproject.util.SHA;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 비밀번호 해시
+// mode = pbkdf2 : PBKDF2WithHmacSHA256, 저장 형식 pbkdf2$반복횟수$salt$해시 (salt, 해시는 base64)
+// mode = sha256 : 예전 방식 (SHA-256 16진수, salt 없음)
+// 예전 방식으로 저장된 비밀번호도 로그인은 되고, 로그인 성공 시 needsRehash 로 확인해서 새 방식으로 바꿔 저장한다.
+@Service
+public class PasswordHasher {
+
+	private static final String PBKDF2 = "pbkdf2";
+	private static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA256";
+	private static final int SALT_BYTES = 16;
+	private static final int HASH_BITS = 256;
+
+	private final boolean slow;
+	private final int iterations;
+	private final SecureRandom random = new SecureRandom();
+	private final Timer hashTimer;
+
+	public PasswordHasher(@Value("${password.mode:pbkdf2}") String mode,
+			@Value("${password.pbkdf2-iterations:120000}") int iterations, MeterRegistry meterRegistry) {
+		this.slow = PBKDF2.equals(mode);
+		this.iterations = iterations;
+		this.hashTimer = Timer.builder("password.hash")
+				.description("비밀번호 해시 한번 계산하는 시간 (반복횟수 조정용)")
+				.register(meterRegistry);
+	}
+
+	// 새로 저장할 비밀번호
+	public String hash(String rawPassword) {
+		if (!slow) {
+			return SHA.encrypt(rawPassword, MyAlgorithm.SHA256);
+		}
+		byte[] salt = new byte[SALT_BYTES];
+		random.nextBytes(salt);
+		Base64.Encoder base64 = Base64.getEncoder();
+		return PBKDF2 + "$" + iterations + "$" + base64.encodeToString(salt) + "$"
+				+ base64.encodeToString(pbkdf2(rawPassword, salt, iterations));
+	}
+
+	public boolean matches(String rawPassword, String storedPassword) {
+		if (storedPassword == null) {
+			return false;
+		}
+		if (!storedPassword.startsWith(PBKDF2 + "$")) {
+			byte[] expected = storedPassword.getBytes();
+			byte[] actual = SHA.encrypt(rawPassword, MyAlgorithm.SHA256).getBytes();
+			return MessageDigest.isEqual(expected, actual);
+		}
+
+		String[] parts = storedPassword.split("\\$");
+		if (parts.length != 4) {
+			return false;
+		}
+		Base64.Decoder base64 = Base64.getDecoder();
+		byte[] expected = base64.decode(parts[3]);
+		byte[] actual = pbkdf2(rawPassword, base64.decode(parts[2]), Integer.parseInt(parts[1]));
+		return MessageDigest.isEqual(expected, actual);
+	}
+
+	// 현재 설정보다 약한 방식으로 저장돼 있으면 true (로그인 성공 직후 다시 해시해서 저장)
+	public boolean needsRehash(String storedPassword) {
+		if (!slow) {
+			return false;
+		}
+		if (!storedPassword.startsWith(PBKDF2 + "$")) {
+			return true;
+		}
+		String[] parts = storedPassword.split("\\$");
+		return parts.length != 4 || Integer.parseInt(parts[1]) < iterations;
+	}
+
+	private byte[] pbkdf2(String rawPassword, byte[] salt, int iterations) {
+		long start = System.nanoTime();
+		PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, HASH_BITS);
+		try {
+			return SecretKeyFactory.getInstance(PBKDF2_ALGORITHM).generateSecret(spec).getEncoded();
+		} catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			spec.clearPassword();
+			hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+}
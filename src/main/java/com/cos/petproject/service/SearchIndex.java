@@ -0,0 +1,597 @@
+package com.cos.petproject.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.util.SearchTokenizer;
+import com.cos.petproject.web.dto.SearchHitDto;
+import com.cos.petproject.web.dto.SearchRespDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 게시글 검색 (메모리 역색인)
+// 단어 -> 글 목록을 들고 있고, 검색어의 단어가 모두 들어있는 글을 BM25 점수 순으로 돌려준다.
+// LIKE '%검색어%' 처럼 본문을 매번 훑지 않는다.
+// 서버 시작 시 모든 게시판을 chunk 개씩 읽어서 채우고, 이후에는 BoardChangedEvent 로 글 하나씩 갱신한다.
+// 다 읽기 전에 들어온 이벤트는 모아두었다가 읽기가 끝난 뒤 순서대로 반영한다. (먼저 읽어둔 예전 글로 덮어쓰지 않도록)
+// 다른 서버에서 바뀐 글은 sync() 가 주기적으로 가져온다.
+//
+// 메모리: 글 목록은 객체 없이 byte[] 하나에 (앞 글과의 번호 차이, 나온 횟수) 를 가변 길이로 이어붙인다. (보통 글 하나당 2~3바이트)
+// 그래서 글마다 순서대로 붙는 번호(docNo)를 따로 쓰고, 수정된 글은 지운 표시를 하고 새 번호로 다시 넣는다.
+// 지운 글이 살아있는 글의 1/4 을 넘으면 번호를 다시 매기면서 정리한다. (그 전까지 단어별 글 수(idf)에는 지운 글도 들어간다)
+@Service
+public class SearchIndex {
+
+	// BM25 파라미터 (일반적으로 쓰는 값)
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	// 제목에 나온 단어는 본문보다 가중치를 높게
+	private static final int TITLE_WEIGHT = 3;
+
+	// 지운 글이 이보다 적으면 정리하지 않는다 (작은 게시판에서 자주 정리하지 않도록)
+	private static final int COMPACT_MIN_DEAD = 1000;
+
+	// sync 때 한번에 다시 읽는 글 수
+	private static final int FETCH_BATCH = 100;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int chunk; // 시작할 때 한번에 읽는 글 수
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Postings> postings = new HashMap<>(); // 단어 -> 글 목록
+
+	// docNo 별 글 정보 (title 이 null 이면 지운 글)
+	private byte[] types = new byte[16];
+	private int[] ids = new int[16];
+	private int[] animalIds = new int[16];
+	private int[] lengths = new int[16];
+	private long[] versions = new long[16]; // createdAt (초), 글을 고치면 바뀐다
+	private String[] titles = new String[16];
+	private int docCount; // 다음 docNo
+	private int liveCount; // 지우지 않은 글 수
+	private long totalLength; // 지우지 않은 글의 단어 수 합 (평균 길이 계산용)
+	private int compactions; // 정리할 때마다 docNo 가 바뀌므로 sync 가 확인한다
+
+	// 게시판별 글 번호 -> docNo + 1 (0 이면 없음), 글 번호는 자동증가라 배열로 충분하다
+	private final int[][] docNos = new int[BoardType.values().length][16];
+
+	private volatile boolean ready;
+	private final List<BoardChangedEvent> buffered = new ArrayList<>(); // ready 전에 들어온 이벤트 (buffered 락 안에서만)
+
+	private final Timer queryTimer;
+
+	// 단어 하나의 글 목록 (docNo 오름차순)
+	private static class Postings {
+		private byte[] data = new byte[4];
+		private int bytes; // data 에서 쓰고 있는 길이
+		private int count; // 글 수 (정리 전까지는 지운 글 포함)
+		private int last = -1; // 마지막 docNo
+
+		// docNo 는 항상 마지막보다 크다 (새 글과 수정된 글은 새 번호를 받는다)
+		private void add(int docNo, int tf) {
+			if (data.length - bytes < 10) {
+				data = Arrays.copyOf(data, data.length + (data.length >> 1) + 10);
+			}
+			write(docNo - last);
+			write(tf);
+			last = docNo;
+			count++;
+		}
+
+		private void write(int value) {
+			while ((value & ~0x7f) != 0) {
+				data[bytes++] = (byte) ((value & 0x7f) | 0x80);
+				value >>>= 7;
+			}
+			data[bytes++] = (byte) value;
+		}
+
+		private void trim() {
+			if (data.length != bytes) {
+				data = Arrays.copyOf(data, bytes);
+			}
+		}
+	}
+
+	// 글 목록을 앞에서부터 읽기
+	private static class Cursor {
+		private final Postings postings;
+		private int position;
+		private int doc = -1;
+		private int tf;
+
+		private Cursor(Postings postings) {
+			this.postings = postings;
+		}
+
+		private boolean next() {
+			if (position >= postings.bytes) {
+				return false;
+			}
+			doc += read();
+			tf = read();
+			return true;
+		}
+
+		// target 이상인 첫 글로 (없으면 false)
+		private boolean advance(int target) {
+			while (doc < target) {
+				if (!next()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private int read() {
+			byte[] data = postings.data;
+			int value = 0;
+			for (int shift = 0;; shift += 7) {
+				byte b = data[position++];
+				value |= (b & 0x7f) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+		}
+	}
+
+	public SearchIndex(JdbcTemplate jdbcTemplate, @Value("${search.warm-chunk:500}") int chunk,
+			MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.chunk = chunk;
+		this.queryTimer = meterRegistry.timer("search.query");
+		meterRegistry.gauge("search.index.docs", this, SearchIndex::docs);
+		meterRegistry.gauge("search.index.terms", this, SearchIndex::terms);
+	}
+
+	// 서버가 뜬 뒤 백그라운드에서 전체 글 읽기 (다 읽기 전 검색은 빈 결과)
+	@EventListener(ApplicationReadyEvent.class)
+	public void warm() {
+		Thread thread = new Thread(() -> {
+			try {
+				for (BoardType type : BoardType.values()) {
+					load(type);
+				}
+				trim();
+			} catch (Exception e) {
+				System.out.println("검색 index 초기화 실패 : " + e.getMessage());
+			} finally {
+				// 반영하는 동안 새로 들어온 이벤트는 락을 기다렸다가 그 뒤에 반영된다
+				synchronized (buffered) {
+					for (BoardChangedEvent event : buffered) {
+						apply(event);
+					}
+					buffered.clear();
+					ready = true;
+				}
+			}
+		}, "search-warm");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	// id 순서대로 chunk 개씩 (본문을 한번에 다 받지 않도록)
+	private void load(BoardType type) {
+		int[] lastId = { 0 };
+		while (true) {
+			int from = lastId[0];
+			jdbcTemplate.query(select(type) + " WHERE id > ? ORDER BY id LIMIT " + chunk, rs -> {
+				lastId[0] = rs.getInt(1);
+				indexRow(type, rs);
+			}, from);
+			if (lastId[0] == from) {
+				return;
+			}
+		}
+	}
+
+	// 글 작성/수정/삭제가 커밋된 뒤 반영
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onBoardChanged(BoardChangedEvent event) {
+		if (!ready) {
+			synchronized (buffered) {
+				if (!ready) {
+					buffered.add(event);
+					return;
+				}
+			}
+		}
+		apply(event);
+	}
+
+	private void apply(BoardChangedEvent event) {
+		if (event.isDeleted()) {
+			remove(event.getType(), event.getId());
+		} else {
+			index(event.getType(), event.getId(), event.getAnimalId(), event.getTitle(), event.getText(),
+					version(event.getCreatedAt()));
+		}
+	}
+
+	// 다른 서버에서 쓰고/고치고/지운 글 반영 (이 서버의 글은 BoardChangedEvent 로 바로 반영된다)
+	// 글 번호와 createdAt 만 훑어서 버전이 다른 글만 본문을 다시 읽고, 없어진 글은 뺀다.
+	@Scheduled(fixedDelayString = "${search.sync-ms:300000}", initialDelayString = "${search.sync-ms:300000}")
+	public void sync() {
+		if (!ready) {
+			return;
+		}
+		for (BoardType type : BoardType.values()) {
+			try {
+				sync(type);
+			} catch (Exception e) {
+				System.out.println(type.getTable() + " 검색 index 동기화 실패 : " + e.getMessage());
+			}
+		}
+	}
+
+	private void sync(BoardType type) {
+		int before;
+		int compacted;
+		lock.readLock().lock();
+		try {
+			before = docCount; // 이 뒤에 들어온 글은 아래 목록에 없을 수 있으므로 지우지 않는다
+			compacted = compactions;
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		// id, createdAt 만 chunk 개씩
+		BitSet seen = new BitSet();
+		List<Integer> changed = new ArrayList<>();
+		int[] rowIds = new int[chunk];
+		long[] rowVersions = new long[chunk];
+		int[] rows = { 0 };
+		while (true) {
+			int from = rows[0] == 0 ? 0 : rowIds[rows[0] - 1];
+			rows[0] = 0;
+			jdbcTemplate.query("SELECT id, createdAt FROM " + type.getTable() + " WHERE id > ? ORDER BY id LIMIT "
+					+ chunk, rs -> {
+						rowIds[rows[0]] = rs.getInt(1);
+						rowVersions[rows[0]++] = version(rs.getTimestamp(2));
+					}, from);
+			if (rows[0] == 0) {
+				break;
+			}
+			lock.readLock().lock();
+			try {
+				for (int i = 0; i < rows[0]; i++) {
+					seen.set(rowIds[i]);
+					int docNo = docNo(type, rowIds[i]);
+					if (docNo < 0 || versions[docNo] != rowVersions[i]) {
+						changed.add(rowIds[i]);
+					}
+				}
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		for (int i = 0; i < changed.size(); i += FETCH_BATCH) {
+			List<Integer> batch = changed.subList(i, Math.min(i + FETCH_BATCH, changed.size()));
+			String in = String.join(",", Collections.nCopies(batch.size(), "?"));
+			jdbcTemplate.query(select(type) + " WHERE id IN (" + in + ")", rs -> {
+				indexRow(type, rs);
+			}, batch.toArray());
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (compactions != compacted) {
+				return; // 번호가 바뀌었으므로 다음 sync 때 지운다
+			}
+			for (int docNo = 0; docNo < before; docNo++) {
+				if (titles[docNo] != null && types[docNo] == type.ordinal() && !seen.get(ids[docNo])) {
+					removeLocked(docNo);
+				}
+			}
+			compactIfNeededLocked();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static String select(BoardType type) {
+		String animalId = type.isAnimalBoard() ? "animalId" : "0";
+		return "SELECT id, " + animalId + ", title, content, createdAt FROM " + type.getTable();
+	}
+
+	private void indexRow(BoardType type, ResultSet rs) throws SQLException {
+		index(type, rs.getInt(1), rs.getInt(2), rs.getString(3), SearchTokenizer.plainText(rs.getString(4)),
+				version(rs.getTimestamp(5)));
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	// 글 추가 (이미 있으면 교체), text 는 태그를 뺀 본문, version 은 createdAt (초)
+	// 이미 더 새 버전이 들어있으면 무시한다 (sync 가 읽어온 예전 글로 이벤트를 덮어쓰지 않도록)
+	public void index(BoardType type, int id, int animalId, String title, String text, long version) {
+		Map<String, Integer> frequencies = new LinkedHashMap<>();
+		int length = 0;
+		for (String token : SearchTokenizer.tokenize(title)) {
+			frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+			length += TITLE_WEIGHT;
+		}
+		for (String token : SearchTokenizer.tokenize(text)) {
+			frequencies.merge(token, 1, Integer::sum);
+			length++;
+		}
+
+		lock.writeLock().lock();
+		try {
+			int old = docNo(type, id);
+			if (old >= 0) {
+				if (versions[old] > version) {
+					return;
+				}
+				removeLocked(old);
+			}
+
+			int docNo = docCount++;
+			grow(docNo + 1);
+			types[docNo] = (byte) type.ordinal();
+			ids[docNo] = id;
+			animalIds[docNo] = animalId;
+			lengths[docNo] = length;
+			versions[docNo] = version;
+			titles[docNo] = title;
+			setDocNo(type, id, docNo);
+			for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+				postings.computeIfAbsent(entry.getKey(), k -> new Postings()).add(docNo, entry.getValue());
+			}
+			liveCount++;
+			totalLength += length;
+			compactIfNeededLocked();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(BoardType type, int id) {
+		lock.writeLock().lock();
+		try {
+			int docNo = docNo(type, id);
+			if (docNo >= 0) {
+				removeLocked(docNo);
+				compactIfNeededLocked();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 검색 (type, animalId 가 null 이면 전체), page 는 0 부터
+	public SearchRespDto search(String query, BoardType type, Integer animalId, int page, int size) {
+		long start = System.nanoTime();
+		// (page + 1) * size 가 int 를 넘지 않도록
+		page = Math.max(0, Math.min(page, Integer.MAX_VALUE / size - 1));
+		List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+		if (terms.isEmpty()) {
+			return new SearchRespDto(Collections.emptyList(), 0, page, size);
+		}
+
+		lock.readLock().lock();
+		try {
+			// 글이 가장 적은 단어부터 확인해서 후보를 빨리 줄인다
+			List<Postings> lists = new ArrayList<>(terms.size());
+			for (String term : terms) {
+				Postings list = postings.get(term);
+				if (list == null) {
+					return new SearchRespDto(Collections.emptyList(), 0, page, size);
+				}
+				lists.add(list);
+			}
+			lists.sort(Comparator.comparingInt(list -> list.count));
+			Cursor[] cursors = new Cursor[lists.size()];
+			double[] idfs = new double[lists.size()];
+			int n = liveCount;
+			for (int i = 0; i < cursors.length; i++) {
+				int df = lists.get(i).count;
+				cursors[i] = new Cursor(lists.get(i));
+				idfs[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+			}
+
+			double avgLength = n == 0 ? 1 : (double) totalLength / n;
+			int limit = (page + 1) * size;
+			PriorityQueue<double[]> top = new PriorityQueue<>(Comparator.comparingDouble(a -> a[0]));
+			int total = 0;
+
+			Cursor first = cursors[0];
+			candidates: while (first.next()) {
+				int docNo = first.doc;
+				if (titles[docNo] == null || (type != null && types[docNo] != type.ordinal())
+						|| (animalId != null && animalIds[docNo] != animalId)) {
+					continue;
+				}
+				for (int i = 1; i < cursors.length; i++) {
+					if (!cursors[i].advance(docNo)) {
+						break candidates; // 이 단어가 든 글이 더 없음
+					}
+					if (cursors[i].doc != docNo) {
+						continue candidates; // 모든 단어가 들어있는 글만
+					}
+				}
+				double score = 0;
+				for (int i = 0; i < cursors.length; i++) {
+					int tf = cursors[i].tf;
+					score += idfs[i] * tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengths[docNo] / avgLength));
+				}
+				total++;
+				top.offer(new double[] { score, docNo });
+				if (top.size() > limit) {
+					top.poll();
+				}
+			}
+
+			List<SearchHitDto> hits = new ArrayList<>(top.size());
+			while (!top.isEmpty()) {
+				double[] entry = top.poll();
+				int docNo = (int) entry[1];
+				hits.add(new SearchHitDto(BoardType.values()[types[docNo]].getTable(), ids[docNo], animalIds[docNo],
+						titles[docNo], entry[0]));
+			}
+			Collections.reverse(hits);
+			int from = Math.min(page * size, hits.size());
+			return new SearchRespDto(new ArrayList<>(hits.subList(from, hits.size())), total, page, size);
+		} finally {
+			lock.readLock().unlock();
+			queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	// 지운 표시만 (글 목록에서는 정리할 때 빠진다)
+	private void removeLocked(int docNo) {
+		titles[docNo] = null;
+		docNos[types[docNo]][ids[docNo]] = 0;
+		liveCount--;
+		totalLength -= lengths[docNo];
+	}
+
+	private void compactIfNeededLocked() {
+		int dead = docCount - liveCount;
+		if (dead >= COMPACT_MIN_DEAD && dead > liveCount / 4) {
+			compactLocked();
+		}
+	}
+
+	// 지운 글을 빼고 살아있는 글에 0 부터 다시 번호를 매긴다 (순서는 그대로라 글 목록도 정렬된 채로 남는다)
+	private void compactLocked() {
+		int[] renumber = new int[docCount];
+		int next = 0;
+		for (int docNo = 0; docNo < docCount; docNo++) {
+			renumber[docNo] = titles[docNo] == null ? -1 : next++;
+		}
+
+		Iterator<Map.Entry<String, Postings>> it = postings.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<String, Postings> entry = it.next();
+			Postings compacted = new Postings();
+			Cursor cursor = new Cursor(entry.getValue());
+			while (cursor.next()) {
+				if (renumber[cursor.doc] >= 0) {
+					compacted.add(renumber[cursor.doc], cursor.tf);
+				}
+			}
+			if (compacted.count == 0) {
+				it.remove();
+			} else {
+				compacted.trim();
+				entry.setValue(compacted);
+			}
+		}
+
+		// 새 번호는 예전 번호보다 크지 않으므로 앞에서부터 옮겨도 덮어쓰지 않는다
+		for (int docNo = 0; docNo < docCount; docNo++) {
+			int to = renumber[docNo];
+			if (to < 0) {
+				continue;
+			}
+			types[to] = types[docNo];
+			ids[to] = ids[docNo];
+			animalIds[to] = animalIds[docNo];
+			lengths[to] = lengths[docNo];
+			versions[to] = versions[docNo];
+			titles[to] = titles[docNo];
+			docNos[types[to]][ids[to]] = to + 1;
+		}
+		Arrays.fill(titles, next, docCount, null);
+		docCount = next;
+		compactions++;
+	}
+
+	// 다 읽은 뒤 늘려두고 안 쓰는 공간 돌려주기
+	private void trim() {
+		lock.writeLock().lock();
+		try {
+			for (Postings list : postings.values()) {
+				list.trim();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity <= titles.length) {
+			return;
+		}
+		int length = Math.max(capacity, titles.length + (titles.length >> 1));
+		types = Arrays.copyOf(types, length);
+		ids = Arrays.copyOf(ids, length);
+		animalIds = Arrays.copyOf(animalIds, length);
+		lengths = Arrays.copyOf(lengths, length);
+		versions = Arrays.copyOf(versions, length);
+		titles = Arrays.copyOf(titles, length);
+	}
+
+	private int docNo(BoardType type, int id) {
+		int[] byId = docNos[type.ordinal()];
+		return id >= 0 && id < byId.length ? byId[id] - 1 : -1;
+	}
+
+	private void setDocNo(BoardType type, int id, int docNo) {
+		int[] byId = docNos[type.ordinal()];
+		if (id >= byId.length) {
+			byId = Arrays.copyOf(byId, Math.max(id + 1, byId.length + (byId.length >> 1)));
+			docNos[type.ordinal()] = byId;
+		}
+		byId[id] = docNo + 1;
+	}
+
+	private double docs() {
+		lock.readLock().lock();
+		try {
+			return liveCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private double terms() {
+		lock.readLock().lock();
+		try {
+			return postings.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// DB 의 DATETIME 정밀도와 상관없이 같은 값이 되도록 초 단위
+	private static long version(Timestamp createdAt) {
+		return createdAt == null ? 0 : createdAt.getTime() / 1000;
+	}
+
+	private static long version(LocalDateTime createdAt) {
+		return createdAt == null ? 0 : version(Timestamp.valueOf(createdAt));
+	}
+}
@@ -0,0 +1,75 @@
+package com.cos.petproject.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.domain.user.UserRepository;
+import com.cos.petproject.web.dto.user.UserDetailRespDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 회원 정보 캐시 (최근에 쓴 순서로 maxSize 개까지, 넘치면 가장 오래 안 쓴 회원부터 제거)
+// 세션에는 PrincipalDto 만 두고 나머지 정보는 여기서 꺼낸다. 회원정보가 바뀌면 invalidate 해야 한다.
+@Service
+public class UserCache {
+
+	private final UserRepository userRepository;
+	private final Map<Integer, UserDetailRespDto> users;
+	private long invalidations; // users 락 안에서만 읽고 쓴다
+
+	private final Counter hits;
+	private final Counter misses;
+
+	public UserCache(UserRepository userRepository, @Value("${user.cache-size:1000}") int maxSize,
+			MeterRegistry meterRegistry) {
+		this.userRepository = userRepository;
+		this.users = new LinkedHashMap<Integer, UserDetailRespDto>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, UserDetailRespDto> eldest) {
+				return size() > maxSize;
+			}
+		};
+		this.hits = meterRegistry.counter("user.cache.hit");
+		this.misses = meterRegistry.counter("user.cache.miss");
+		meterRegistry.gauge("user.cache.size", users, Map::size);
+	}
+
+	// 없는 회원이면 null
+	public UserDetailRespDto get(int id) {
+		long seen;
+		synchronized (users) {
+			UserDetailRespDto user = users.get(id);
+			if (user != null) {
+				hits.increment();
+				return user;
+			}
+			seen = invalidations;
+		}
+
+		// DB 조회는 락 밖에서
+		misses.increment();
+		UserDetailRespDto user = userRepository.findById(id).map(UserDetailRespDto::of).orElse(null);
+		if (user != null) {
+			synchronized (users) {
+				// 조회하는 사이에 회원정보가 바뀌었으면 예전 값일 수 있으므로 저장하지 않는다
+				if (seen == invalidations) {
+					users.put(id, user);
+				}
+			}
+		}
+		return user;
+	}
+
+	public void invalidate(int id) {
+		synchronized (users) {
+			users.remove(id);
+			invalidations++;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.cos.petproject.service;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.domain.user.UserRepository;
+import com.cos.petproject.util.BloomFilter;
+import com.cos.petproject.util.UserDuplicateInterface;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 가입된 아이디/이메일/전화번호 Bloom filter
+// 대부분의 가입 요청은 중복이 아니므로, filter 에 없으면 DB 를 보지 않고 바로 "사용 가능" 으로 판단한다.
+// filter 에 있을 수도 있다고 나오면 한번의 쿼리로 세 값을 같이 확인한다. (최종 판단은 DB unique 제약조건)
+@Service
+public class UserExistenceIndex {
+
+	public enum Field {
+		USERNAME, EMAIL, PHONE
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final UserRepository userRepository;
+	private final int minExpected;
+	private final double fpp;
+
+	private volatile BloomFilter usernames;
+	private volatile BloomFilter emails;
+	private volatile BloomFilter phones;
+
+	private final Counter filtered;
+	private final Counter queried;
+
+	public UserExistenceIndex(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+			@Value("${user.bloom-expected:100000}") int minExpected, @Value("${user.bloom-fpp:0.01}") double fpp,
+			MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.userRepository = userRepository;
+		this.minExpected = minExpected;
+		this.fpp = fpp;
+		this.filtered = meterRegistry.counter("user.exists.filtered");
+		this.queried = meterRegistry.counter("user.exists.queried");
+	}
+
+	// 서버 시작 시 가입된 회원 값으로 채운다 (회원 수의 2배 여유를 두고 크기를 정함)
+	// 실패하면 filter 없이 (항상 DB 확인) 동작한다
+	@PostConstruct
+	public void warm() {
+		try {
+			load();
+		} catch (Exception e) {
+			System.out.println("회원 중복확인 index 초기화 실패 : " + e.getMessage());
+		}
+	}
+
+	private void load() {
+		Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM user", Integer.class);
+		long expected = Math.max(minExpected, (count == null ? 0 : count) * 2L);
+
+		BloomFilter usernames = new BloomFilter(expected, fpp);
+		BloomFilter emails = new BloomFilter(expected, fpp);
+		BloomFilter phones = new BloomFilter(expected, fpp);
+		jdbcTemplate.query("SELECT username, email, phone FROM user", rs -> {
+			usernames.add(rs.getString(1));
+			emails.add(rs.getString(2));
+			phones.add(rs.getString(3));
+		});
+
+		this.usernames = usernames;
+		this.emails = emails;
+		this.phones = phones;
+	}
+
+	// 이미 사용중인 값 (아이디, 이메일, 전화번호 순서로 확인), 모두 사용 가능하면 null
+	public Field findDuplicate(String username, String email, String phone) {
+		if (usernames != null && !usernames.mightContain(username) && !emails.mightContain(email)
+				&& !phones.mightContain(phone)) {
+			filtered.increment();
+			return null;
+		}
+
+		queried.increment();
+		UserDuplicateInterface duplicate = userRepository.mDuplicateCheck(username, email, phone);
+		if (duplicate.getUsernameCount() > 0) {
+			return Field.USERNAME;
+		}
+		if (duplicate.getEmailCount() > 0) {
+			return Field.EMAIL;
+		}
+		if (duplicate.getPhoneCount() > 0) {
+			return Field.PHONE;
+		}
+		return null;
+	}
+
+	// 아이디 사용 여부만 확인 (아이디 중복확인 버튼용)
+	public boolean usernameExists(String username) {
+		if (usernames != null && !usernames.mightContain(username)) {
+			filtered.increment();
+			return false;
+		}
+		queried.increment();
+		return userRepository.mDuplicateCheck(username, null, null).getUsernameCount() > 0;
+	}
+
+	// 회원가입, 회원정보 수정으로 새 값이 저장되면 추가 (예전 값은 지우지 못하지만 false positive 일 뿐)
+	public void add(String username, String email, String phone) {
+		if (usernames == null) {
+			return;
+		}
+		if (username != null) {
+			usernames.add(username);
+		}
+		emails.add(email);
+		phones.add(phone);
+	}
+}
@@ -0,0 +1,60 @@
+package com.cos.petproject.service;
+
+import java.security.SecureRandom;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 이메일 인증번호 생성
+// SecureRandom 은 하나를 여러 스레드가 같이 쓰면 내부 락에서 기다리므로 스레드마다 하나씩 두고,
+// 글자도 스레드마다 만들어둔 char 배열에 바로 채운다. (호출마다 새로 만드는 건 결과 String 뿐)
+@Component
+public class VerificationCodeGenerator {
+
+	private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+	// 아직 쓰이고 있는 번호와 겹치면 다시 뽑는 최대 횟수
+	private static final int MAX_RETRIES = 10;
+
+	private final char[] alphabet;
+	private final int length;
+	private final ThreadLocal<char[]> buffers;
+	private final Counter collisions;
+
+	public VerificationCodeGenerator(@Value("${verification.code-length:6}") int length,
+			@Value("${verification.code-alphabet:0123456789}") String alphabet,
+			MeterRegistry meterRegistry) {
+		if (length < 1 || alphabet.isEmpty()) {
+			throw new IllegalArgumentException("verification.code-length / code-alphabet 설정을 확인하세요");
+		}
+		this.alphabet = alphabet.toCharArray();
+		this.length = length;
+		this.buffers = ThreadLocal.withInitial(() -> new char[length]);
+		this.collisions = meterRegistry.counter("verification.code.collision");
+	}
+
+	// 인증번호 하나 생성 (nextInt(bound) 는 나머지 연산 편향이 없다)
+	public String generate() {
+		SecureRandom random = RANDOM.get();
+		char[] buffer = buffers.get();
+		for (int i = 0; i < length; i++) {
+			buffer[i] = alphabet[random.nextInt(alphabet.length)];
+		}
+		return new String(buffer);
+	}
+
+	// 아직 유효한 번호와 겹치지 않는 인증번호 생성
+	// 번호가 거의 다 쓰여서 MAX_RETRIES 번 모두 겹치면 마지막 번호를 그대로 쓴다 (인증은 이메일별이라 문제 없음)
+	public String generate(Predicate<String> outstanding) {
+		String code = generate();
+		for (int i = 0; i < MAX_RETRIES && outstanding.test(code); i++) {
+			collisions.increment();
+			code = generate();
+		}
+		return code;
+	}
+}
@@ -0,0 +1,21 @@
+package com.cos.petproject.service;
+
+// 이메일 인증번호 저장소 (이메일당 하나, 만료 시각과 틀린 횟수를 같이 저장)
+// 서버 한대면 MemoryVerificationCodeStore, 여러대면 JdbcVerificationCodeStore (verification.store)
+public interface VerificationCodeStore {
+
+	// 인증번호 저장 (이전에 보낸 번호는 버린다)
+	void put(String email, String code, long expiresAt);
+
+	// 인증번호가 맞으면 true
+	// 틀리면 틀린 횟수 +1, maxAttempts 번 틀렸거나 만료됐으면 맞아도 false (다시 발송해야 함)
+	boolean verify(String email, String code, int maxAttempts, long now);
+
+	// 다른 이메일에 발송되어 아직 유효한 번호인지 (새 번호가 겹치지 않게)
+	boolean isOutstanding(String code, long now);
+
+	// 가입/수정이 끝나면 제거
+	void remove(String email);
+
+	int size();
+}
@@ -0,0 +1,15 @@
+package com.cos.petproject.service;
+
+import java.util.Set;
+
+import com.cos.petproject.util.BoardType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 조회수가 DB 에 반영된 뒤 발행되는 이벤트
+@AllArgsConstructor
+@Getter
+public class ViewCountFlushedEvent {
+	private final Set<BoardType> boardTypes; // 조회수가 바뀐 게시판
+}
@@ -0,0 +1,166 @@
+package com.cos.petproject.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.cos.petproject.util.BoardType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 게시글 조회수 write-behind 집계기
+// 상세보기마다 Update ... counter + 1 을 날리면 인기글 한 행에 락이 몰리므로
+// 메모리(LongAdder)에 모아두었다가 주기적으로 한번에 반영한다.
+@Service
+public class ViewCounterService {
+
+	// 한 UPDATE 문에 묶을 최대 게시글 수
+	private static final int FLUSH_CHUNK = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Map<BoardType, ConcurrentHashMap<Integer, LongAdder>> pending = new EnumMap<>(BoardType.class);
+
+	// 아직 반영되지 않은 가장 오래된 증가 시각 (0 이면 대기중인 증가 없음)
+	private final AtomicLong oldestPendingNanos = new AtomicLong();
+
+	private final Timer flushLag;
+	private final DistributionSummary flushCoalesced;
+	private final DistributionSummary flushRows;
+
+	public ViewCounterService(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+			MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.eventPublisher = eventPublisher;
+		for (BoardType type : BoardType.values()) {
+			pending.put(type, new ConcurrentHashMap<>());
+		}
+		this.flushLag = Timer.builder("board.view.flush.lag")
+				.description("첫 조회수 증가부터 DB 반영까지 걸린 시간")
+				.register(meterRegistry);
+		this.flushCoalesced = DistributionSummary.builder("board.view.flush.coalesced")
+				.description("한 번의 flush 에 합쳐진 조회수 증가 횟수")
+				.register(meterRegistry);
+		this.flushRows = DistributionSummary.builder("board.view.flush.rows")
+				.description("한 번의 flush 로 갱신된 게시글 수")
+				.register(meterRegistry);
+	}
+
+	// 조회수 증가 (DB 에는 flush 때 반영)
+	public void increment(BoardType type, int id) {
+		add(type, id, 1);
+	}
+
+	@Scheduled(fixedDelayString = "${counter.flush-interval-ms:5000}")
+	public void scheduledFlush() {
+		flush();
+	}
+
+	@PreDestroy
+	public void shutdownFlush() {
+		flush();
+	}
+
+	public synchronized void flush() {
+		long startedAt = oldestPendingNanos.getAndSet(0);
+		long coalesced = 0;
+		int rows = 0;
+		Set<BoardType> flushed = EnumSet.noneOf(BoardType.class);
+
+		for (BoardType type : BoardType.values()) {
+			ConcurrentHashMap<Integer, LongAdder> counters = pending.get(type);
+			List<int[]> deltas = new ArrayList<>();
+
+			for (Map.Entry<Integer, LongAdder> entry : counters.entrySet()) {
+				long delta = entry.getValue().sumThenReset();
+				if (delta == 0) {
+					// 한 주기 동안 조회가 없던 글은 맵에서 정리
+					// add() 와 같은 bin 락 안에서 다시 확인하므로 그 사이에 더해진 조회수는 지워지지 않는다
+					counters.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+					continue;
+				}
+				deltas.add(new int[] { entry.getKey(), (int) delta });
+				coalesced += delta;
+			}
+			if (deltas.isEmpty()) {
+				continue;
+			}
+
+			// id 순으로 정렬해서 락 획득 순서를 고정 (다른 노드와의 데드락 방지)
+			Collections.sort(deltas, (a, b) -> Integer.compare(a[0], b[0]));
+			for (int from = 0; from < deltas.size(); from += FLUSH_CHUNK) {
+				List<int[]> chunk = deltas.subList(from, Math.min(from + FLUSH_CHUNK, deltas.size()));
+				try {
+					updateCounters(type, chunk);
+					rows += chunk.size();
+					flushed.add(type);
+				} catch (Exception e) {
+					// 반영 실패한 증가분은 다음 flush 때 다시 시도
+					System.out.println("조회수 반영 실패 : " + e.getMessage());
+					for (int[] delta : chunk) {
+						add(type, delta[0], delta[1]);
+					}
+				}
+			}
+		}
+
+		if (rows > 0 && startedAt != 0) {
+			flushLag.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			flushCoalesced.record(coalesced);
+			flushRows.record(rows);
+		}
+		if (!flushed.isEmpty()) {
+			eventPublisher.publishEvent(new ViewCountFlushedEvent(flushed));
+		}
+	}
+
+	// 꺼내서 더하는 사이에 flush 가 맵에서 지우지 않도록 compute 안에서 더한다
+	private void add(BoardType type, int id, long delta) {
+		pending.get(type).compute(id, (k, adder) -> {
+			if (adder == null) {
+				adder = new LongAdder();
+			}
+			adder.add(delta);
+			return adder;
+		});
+		oldestPendingNanos.compareAndSet(0, System.nanoTime());
+	}
+
+	// UPDATE boast SET counter = counter + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+	private void updateCounters(BoardType type, List<int[]> chunk) {
+		StringBuilder sql = new StringBuilder();
+		List<Object> args = new ArrayList<>(chunk.size() * 3);
+
+		sql.append("UPDATE ").append(type.getTable()).append(" SET counter = counter + CASE id");
+		for (int[] delta : chunk) {
+			sql.append(" WHEN ? THEN ?");
+			args.add(delta[0]);
+			args.add(delta[1]);
+		}
+		sql.append(" ELSE 0 END WHERE id IN (");
+		for (int i = 0; i < chunk.size(); i++) {
+			sql.append(i == 0 ? "?" : ", ?");
+			args.add(chunk.get(i)[0]);
+		}
+		sql.append(")");
+
+		jdbcTemplate.update(sql.toString(), args.toArray());
+	}
+}
@@ -0,0 +1,105 @@
+package com.cos.petproject.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.cos.petproject.domain.visitor.VisitorRepository;
+import com.cos.petproject.util.VisitorReportInterface;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import lombok.Getter;
+
+// 관리자 방문자 차트 응답 캐시
+// 집계(visitor_daily/monthly)가 바뀌거나 날짜가 넘어가기 전까지는 만들어둔 JSON 바이트를 그대로 내려준다.
+// 집계가 바뀌었는지는 DB 의 전체 방문자 수로 확인하고 (다른 서버에서 바뀐 것도 보이도록), check-ms 에 한번만 확인한다.
+@Service
+public class VisitorChartCache {
+
+	private final VisitorRepository visitorRepository;
+	private final VisitorRollupService visitorRollupService;
+	private final long checkMillis;
+	private final Gson gson = new Gson();
+
+	private final Map<Range, Chart> charts = new EnumMap<>(Range.class);
+	private long version; // 마지막으로 확인한 전체 방문자 수
+	private long checkedAt; // 마지막으로 확인한 시각
+
+	public VisitorChartCache(VisitorRepository visitorRepository, VisitorRollupService visitorRollupService,
+			@Value("${visitor.chart-check-ms:10000}") long checkMillis) {
+		this.visitorRepository = visitorRepository;
+		this.visitorRollupService = visitorRollupService;
+		this.checkMillis = checkMillis;
+	}
+
+	public enum Range {
+		LAST_30_DAYS, LAST_12_MONTHS
+	}
+
+	// 직렬화가 끝난 차트 응답
+	@Getter
+	public static class Chart {
+		private final long version;
+		private final LocalDate day;
+		private final byte[] body;
+		private final String etag;
+
+		private Chart(long version, LocalDate day, byte[] body) {
+			this.version = version;
+			this.day = day;
+			this.body = body;
+			this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+		}
+	}
+
+	public synchronized Chart get(Range range) {
+		long now = System.currentTimeMillis();
+		if (checkedAt == 0 || now - checkedAt >= checkMillis) {
+			version = visitorRollupService.totalVisits();
+			checkedAt = now;
+		}
+		LocalDate today = LocalDate.now();
+
+		Chart chart = charts.get(range);
+		if (chart == null || chart.version != version || !chart.day.equals(today)) {
+			chart = new Chart(version, today, render(range));
+			charts.put(range, chart);
+		}
+		return chart;
+	}
+
+	private byte[] render(Range range) {
+		if (range == Range.LAST_30_DAYS) {
+			// 최근 한달간 일별 방문자 수
+			return toJson(visitorRepository.mVisitorOMITodayChk(), time -> time);
+		}
+		// 1년간 월별 방문자 수 (yyyy-MM-00 -> yyyy-MM)
+		return toJson(visitorRepository.mVisitorFaYMonthChk(), time -> time.substring(0, 7));
+	}
+
+	// { code: 1, msg: "성공", body: [ { Time, Count }, ... ] }
+	private byte[] toJson(List<VisitorReportInterface> rows, Function<String, String> timeFormat) {
+		JsonArray series = new JsonArray();
+		for (VisitorReportInterface row : rows) {
+			JsonObject point = new JsonObject();
+			point.addProperty("Time", timeFormat.apply(row.getTime()));
+			point.addProperty("Count", row.getId());
+			series.add(point);
+		}
+
+		JsonObject resp = new JsonObject();
+		resp.addProperty("code", 1);
+		resp.addProperty("msg", "성공");
+		resp.add("body", series);
+		return gson.toJson(resp).getBytes(StandardCharsets.UTF_8);
+	}
+}
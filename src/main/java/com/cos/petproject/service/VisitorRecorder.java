@@ -0,0 +1,108 @@
+package com.cos.petproject.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 방문자 기록 큐
+// 세션이 만들어질 때마다 INSERT 하지 않고 큐에 쌓아두었다가
+// 백그라운드에서 batch insert 로 한번에 저장한다. (일별/월별 집계도 같은 트랜잭션에서 갱신)
+@Service
+public class VisitorRecorder {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final VisitorRollupService visitorRollupService;
+
+	private final int capacity;
+	private final int batchSize;
+
+	// 방문 시각(ms) 큐, ConcurrentLinkedQueue 는 size() 가 O(n) 이라 크기는 따로 센다
+	private final ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private final Counter recorded;
+	private final Counter dropped;
+	private final Counter written;
+
+	public VisitorRecorder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			VisitorRollupService visitorRollupService, MeterRegistry meterRegistry,
+			@Value("${visitor.queue-capacity:10000}") int capacity,
+			@Value("${visitor.batch-size:500}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.visitorRollupService = visitorRollupService;
+		this.capacity = capacity;
+		this.batchSize = batchSize;
+		this.recorded = meterRegistry.counter("visitor.recorded");
+		this.dropped = meterRegistry.counter("visitor.dropped");
+		this.written = meterRegistry.counter("visitor.written");
+		meterRegistry.gauge("visitor.queue.size", queued);
+	}
+
+	// 방문 기록 (큐가 가득 차면 버리고 false)
+	public boolean record(long visitedAt) {
+		if (queued.incrementAndGet() > capacity) {
+			queued.decrementAndGet();
+			dropped.increment();
+			return false;
+		}
+		queue.offer(visitedAt);
+		recorded.increment();
+		return true;
+	}
+
+	@Scheduled(fixedDelayString = "${visitor.flush-interval-ms:1000}")
+	public void scheduledFlush() {
+		flush();
+	}
+
+	// 종료 시 남은 방문 기록 저장
+	@PreDestroy
+	public void shutdownFlush() {
+		flush();
+	}
+
+	public synchronized void flush() {
+		List<Long> batch = new ArrayList<>(batchSize);
+		Long visitedAt;
+		while ((visitedAt = queue.poll()) != null) {
+			queued.decrementAndGet();
+			batch.add(visitedAt);
+			if (batch.size() == batchSize) {
+				write(batch);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+		if (!batch.isEmpty()) {
+			write(batch);
+		}
+	}
+
+	private void write(List<Long> batch) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.batchUpdate("INSERT INTO visitor(time) VALUES (?)", batch, batch.size(),
+						(ps, time) -> ps.setTimestamp(1, new Timestamp(time)));
+				visitorRollupService.add(batch);
+			});
+			written.increment(batch.size());
+		} catch (Exception e) {
+			System.out.println("방문자 기록 실패 : " + e.getMessage());
+			dropped.increment(batch.size());
+		}
+	}
+}
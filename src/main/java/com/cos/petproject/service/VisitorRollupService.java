@@ -0,0 +1,118 @@
+package com.cos.petproject.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 방문자 일별/월별 집계 관리
+// 차트는 visitor 원본 대신 visitor_daily / visitor_monthly 만 읽는다.
+@Service
+public class VisitorRollupService {
+
+	// 보관 기간이 지난 원본을 옮길 때 한 트랜잭션에서 처리할 행 수
+	private static final int ARCHIVE_CHUNK = 5000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int retentionDays;
+
+	public VisitorRollupService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+			@Value("${visitor.retention-days:90}") int retentionDays) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.retentionDays = retentionDays;
+	}
+
+	// 집계 테이블이 비어있으면 (처음 배포했을 때) 원본 테이블로 한번 채운다.
+	// 톰캣이 요청을 받기 전에 실행되므로 VisitorRecorder 의 flush 와 겹치지 않는다.
+	@PostConstruct
+	public void init() {
+		try {
+			Integer days = jdbcTemplate.queryForObject("SELECT count(*) FROM visitor_daily", Integer.class);
+			if (days != null && days == 0) {
+				rebuild();
+			}
+		} catch (Exception e) {
+			System.out.println("방문자 집계 초기화 실패 : " + e.getMessage());
+		}
+	}
+
+	// 원본 테이블로 집계를 다시 만든다
+	public void rebuild() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.update("DELETE FROM visitor_daily");
+			jdbcTemplate.update("DELETE FROM visitor_monthly");
+			jdbcTemplate.update("INSERT INTO visitor_daily(day, visits) "
+					+ "SELECT DATE(time), count(id) FROM visitor GROUP BY DATE(time)");
+			jdbcTemplate.update("INSERT INTO visitor_monthly(month, visits) "
+					+ "SELECT DATE_FORMAT(time, '%Y-%m-01'), count(id) FROM visitor GROUP BY DATE_FORMAT(time, '%Y-%m-01')");
+		});
+	}
+
+	// 집계된 전체 방문자 수 (어느 서버에서 집계가 바뀌어도 달라지므로 차트 캐시 버전으로 쓴다)
+	public long totalVisits() {
+		Long total = jdbcTemplate.queryForObject("SELECT COALESCE(sum(visits), 0) FROM visitor_daily", Long.class);
+		return total == null ? 0 : total;
+	}
+
+	// 방문 시각 목록을 날짜/월 단위로 묶어서 집계에 더한다 (호출하는 쪽 트랜잭션에 참여)
+	public void add(List<Long> visitedAts) {
+		Map<LocalDate, Integer> daily = new TreeMap<>();
+		Map<LocalDate, Integer> monthly = new TreeMap<>();
+		ZoneId zone = ZoneId.systemDefault();
+
+		for (Long visitedAt : visitedAts) {
+			LocalDate day = Instant.ofEpochMilli(visitedAt).atZone(zone).toLocalDate();
+			daily.merge(day, 1, Integer::sum);
+			monthly.merge(day.withDayOfMonth(1), 1, Integer::sum);
+		}
+
+		upsert("INSERT INTO visitor_daily(day, visits) VALUES (?, ?) "
+				+ "ON DUPLICATE KEY UPDATE visits = visits + VALUES(visits)", daily);
+		upsert("INSERT INTO visitor_monthly(month, visits) VALUES (?, ?) "
+				+ "ON DUPLICATE KEY UPDATE visits = visits + VALUES(visits)", monthly);
+	}
+
+	private void upsert(String sql, Map<LocalDate, Integer> buckets) {
+		List<Object[]> args = new ArrayList<>(buckets.size());
+		for (Map.Entry<LocalDate, Integer> bucket : buckets.entrySet()) {
+			args.add(new Object[] { Date.valueOf(bucket.getKey()), bucket.getValue() });
+		}
+		jdbcTemplate.batchUpdate(sql, args);
+	}
+
+	// 매일 새벽 보관 기간이 지난 원본을 visitor_archive 로 옮긴다 (집계는 그대로 유지)
+	@Scheduled(cron = "${visitor.archive-cron:0 30 4 * * *}")
+	public void archive() {
+		Timestamp before = Timestamp.from(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+
+		while (true) {
+			Integer maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM "
+					+ "(SELECT id FROM visitor WHERE time < ? ORDER BY id LIMIT " + ARCHIVE_CHUNK + ") chunk",
+					Integer.class, before);
+			if (maxId == null) {
+				break;
+			}
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.update("INSERT INTO visitor_archive(id, time) "
+						+ "SELECT id, time FROM visitor WHERE id <= ? AND time < ?", maxId, before);
+				jdbcTemplate.update("DELETE FROM visitor WHERE id <= ? AND time < ?", maxId, before);
+			});
+		}
+	}
+}
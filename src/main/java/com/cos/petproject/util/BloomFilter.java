@@ -0,0 +1,68 @@
+package com.cos.petproject.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열 Bloom filter
+// mightContain 이 false 면 확실히 없는 값, true 면 있을 수도 있는 값 (false positive 비율 fpp)
+// 비트 배열은 AtomicLongArray 라서 add / mightContain 을 여러 스레드에서 동시에 불러도 된다. (삭제는 없음)
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	// expected 개를 넣었을 때 false positive 비율이 fpp 가 되도록 크기를 정한다
+	public BloomFilter(long expected, double fpp) {
+		long m = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1, (m + 63) / 64);
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = (long) words * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+	}
+
+	public void add(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current = bits.get(word);
+			while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+				current = bits.get(word);
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 해시 두개(h1 + i * h2)로 k 개의 위치를 만든다 (Kirsch-Mitzenmacher)
+	private long index(int combined) {
+		return (combined & Integer.MAX_VALUE) % bitCount;
+	}
+
+	// FNV-1a 64bit + 마지막 섞기 (String.hashCode 보다 충돌이 적다)
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
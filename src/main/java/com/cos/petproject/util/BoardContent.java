@@ -0,0 +1,152 @@
+package com.cos.petproject.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import lombok.Getter;
+
+// 게시글 본문 처리 (글 작성/수정 시 한 번만)
+// 1. 허용된 태그/속성만 남기고 (script, on* 속성, javascript: 주소 등 제거), style 은 에디터가 쓰는 속성만 남긴다
+// 2. 에디터가 감싼 <p> 를 벗겨내고 (예전 replaceAll("<p>", "") 과 같은 결과)
+// 3. 첫 이미지 주소, 검색용 글자, 목록용 요약, 글자 수를 같이 구한다.
+// html 은 한 번만 parse 하고 문서도 한 번만 훑는다.
+@Getter
+public class BoardContent {
+
+	// 목록 미리보기 글자 수
+	public static final int EXCERPT_LENGTH = 100;
+	public static final int EXCERPT_COLUMN_LENGTH = EXCERPT_LENGTH + 1; // 말줄임표 포함
+
+	// Summernote 가 쓰는 태그만 허용
+	// /media/{hash} 처럼 상대경로인 이미지를 남기기 위해 기준 주소를 주고 relative link 를 유지한다.
+	private static final Safelist SAFELIST = Safelist.relaxed()
+			.addAttributes(":all", "style")
+			.addProtocols("img", "src", "data")
+			.preserveRelativeLinks(true);
+	private static final String BASE_URI = "http://localhost/";
+
+	// Jsoup 은 CSS 를 검사하지 않으므로 style 은 따로 거른다 (position:fixed 로 화면 덮기, url(...) 로 외부 요청 등 방지)
+	private static final Set<String> STYLES = new HashSet<>(
+			Arrays.asList("text-align", "color", "background-color", "font-size", "font-weight"));
+	private static final Set<String> IMG_STYLES = new HashSet<>(Arrays.asList("width", "height"));
+	private static final Pattern STYLE_VALUE = Pattern.compile("[\\w\\s#.,%()-]+");
+
+	private final String html; // 저장할 본문
+	private final String thumbnailUrl; // 첫 이미지 (base64 이미지는 건너뛴다, 없으면 빈 문자열)
+	private final String plainText; // 태그를 뺀 글자 (검색용)
+	private final String excerpt; // plainText 앞부분 (목록용)
+	private final int length; // plainText 글자 수
+
+	private BoardContent(String html, String thumbnailUrl, String plainText) {
+		this.html = html;
+		this.thumbnailUrl = thumbnailUrl;
+		this.plainText = plainText;
+		this.excerpt = excerpt(plainText);
+		this.length = plainText.codePointCount(0, plainText.length());
+	}
+
+	public static BoardContent of(String rawHtml) {
+		Document clean = clean(rawHtml);
+
+		// 한 번 훑으면서 첫 이미지와 <p> 를 찾는다 (<p> 는 다 훑은 뒤 벗겨낸다)
+		String[] firstSrc = { "" };
+		List<Element> paragraphs = new ArrayList<>();
+		NodeTraversor.traverse(new NodeVisitor() {
+			@Override
+			public void head(Node node, int depth) {
+				if (!(node instanceof Element)) {
+					return;
+				}
+				Element element = (Element) node;
+				if (firstSrc[0].isEmpty() && element.normalName().equals("img")) {
+					String src = element.attr("src");
+					if (HtmlImage.isThumbnail(src)) {
+						firstSrc[0] = src;
+					}
+				} else if (element.normalName().equals("p")) {
+					paragraphs.add(element);
+				}
+			}
+
+			@Override
+			public void tail(Node node, int depth) {
+			}
+		}, clean.body());
+
+		// 글자는 <p> 를 벗기기 전에 꺼내야 문단 사이 띄어쓰기가 남는다
+		String plainText = clean.body().text();
+		for (Element p : paragraphs) {
+			p.unwrap();
+		}
+		return new BoardContent(clean.body().html(), firstSrc[0], plainText);
+	}
+
+	// 화면에 그리기 전 정리 (예전에 저장된 글용), 우리 서버 이미지는 rendition 크기 사본으로 바꾼다
+	public static String sanitize(String rawHtml, MediaRendition rendition) {
+		Document clean = clean(rawHtml);
+		for (Element img : clean.body().select("img[src]")) {
+			img.attr("src", rendition.url(img.attr("src")));
+		}
+		return clean.body().html();
+	}
+
+	private static Document clean(String rawHtml) {
+		Document dirty = Jsoup.parseBodyFragment(rawHtml == null ? "" : rawHtml, BASE_URI);
+		Document clean = new Cleaner(SAFELIST).clean(dirty);
+		clean.outputSettings().prettyPrint(false);
+		for (Element element : clean.body().select("[style]")) {
+			String style = cleanStyle(element.attr("style"), element.normalName().equals("img"));
+			if (style.isEmpty()) {
+				element.removeAttr("style");
+			} else {
+				element.attr("style", style);
+			}
+		}
+		return clean;
+	}
+
+	// 허용된 속성만 "이름: 값;" 으로 다시 쓴다 (값에 url( 이나 이상한 문자가 있으면 버림)
+	private static String cleanStyle(String style, boolean img) {
+		StringBuilder sb = new StringBuilder();
+		for (String declaration : style.split(";")) {
+			int colon = declaration.indexOf(':');
+			if (colon < 0) {
+				continue;
+			}
+			String name = declaration.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+			String value = declaration.substring(colon + 1).trim();
+			if (!(STYLES.contains(name) || (img && IMG_STYLES.contains(name)))
+					|| !STYLE_VALUE.matcher(value).matches() || value.toLowerCase(Locale.ROOT).contains("url(")
+					|| value.toLowerCase(Locale.ROOT).contains("expression(")) {
+				continue;
+			}
+			if (sb.length() > 0) {
+				sb.append(' ');
+			}
+			sb.append(name).append(": ").append(value).append(';');
+		}
+		return sb.toString();
+	}
+
+	private static String excerpt(String plainText) {
+		if (plainText.codePointCount(0, plainText.length()) <= EXCERPT_LENGTH) {
+			return plainText;
+		}
+		int end = plainText.offsetByCodePoints(0, EXCERPT_LENGTH);
+		return plainText.substring(0, end).trim() + "…";
+	}
+}
@@ -0,0 +1,27 @@
+package com.cos.petproject.util;
+
+import java.time.LocalDateTime;
+
+// 게시판 목록 한 줄 (본문, 댓글 목록은 읽지 않는다)
+public interface BoardListInterface {
+	int getId();
+
+	String getTitle();
+
+	String getNickname(); // 작성자 닉네임
+
+	int getCounter();
+
+	LocalDateTime getCreatedAt();
+
+	int getCommentCount();
+
+	String getExcerpt(); // 본문 앞부분 (예전 글은 backfill 전까지 null)
+
+	String getThumbnailUrl();
+
+	// 목록에 보여줄 작은 사본 주소
+	default String getListThumbnailUrl() {
+		return MediaRendition.THUMB.url(getThumbnailUrl());
+	}
+}
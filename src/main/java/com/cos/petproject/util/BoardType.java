@@ -0,0 +1,27 @@
+package com.cos.petproject.util;
+
+import lombok.Getter;
+
+// 게시판 종류 (테이블 이름을 코드에 문자열로 흩어놓지 않기 위해 사용)
+@Getter
+public enum BoardType {
+	BOAST("boast", true), QNA("qna", true), TIP("tip", true), NOTICE("notice", false);
+
+	private String table;
+	private boolean animalBoard; // 동물별(/{animalId}/...) 게시판이고 댓글이 달리는지
+
+	private BoardType(String table, boolean animalBoard) {
+		this.table = table;
+		this.animalBoard = animalBoard;
+	}
+
+	// 주소에 들어있는 게시판 이름으로 찾기 (없으면 null)
+	public static BoardType fromTable(String table) {
+		for (BoardType type : values()) {
+			if (type.table.equals(table)) {
+				return type;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,9 @@
+package com.cos.petproject.util;
+
+import java.time.format.DateTimeFormatter;
+
+// 화면에 보여주는 날짜 형식 (DateTimeFormatter 는 thread-safe 라서 하나만 만들어서 같이 쓴다)
+public class DateFormats {
+
+	public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+}
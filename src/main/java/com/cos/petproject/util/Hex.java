@@ -0,0 +1,16 @@
+package com.cos.petproject.util;
+
+// byte[] -> 16진수 문자열 (String.format 없이 표를 보고 바로 채운다)
+public class Hex {
+
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+	public static String encode(byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = DIGITS[(bytes[i] >> 4) & 0xf];
+			chars[i * 2 + 1] = DIGITS[bytes[i] & 0xf];
+		}
+		return new String(chars);
+	}
+}
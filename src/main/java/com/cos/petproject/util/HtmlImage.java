@@ -0,0 +1,29 @@
+package com.cos.petproject.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+
+public class HtmlImage {
+
+	// thumbnailUrl 컬럼 길이
+	public static final int MAX_URL_LENGTH = 1000;
+
+	// 게시글 본문에서 썸네일로 쓸 첫번째 img 의 src (없으면 빈 문자열)
+	// base64(data:) 이미지는 건너뛴다 (media 이전 전까지는 기본 이미지를 보여준다, BoardContent 와 같은 규칙)
+	public static String firstSrc(String html) {
+		if (html == null || html.isEmpty()) {
+			return "";
+		}
+		for (Element img : Jsoup.parse(html).select("img[src]")) {
+			String src = img.attr("src");
+			if (isThumbnail(src)) {
+				return src;
+			}
+		}
+		return "";
+	}
+
+	public static boolean isThumbnail(String src) {
+		return !src.isEmpty() && src.length() <= MAX_URL_LENGTH && !src.regionMatches(true, 0, "data:", 0, 5);
+	}
+}
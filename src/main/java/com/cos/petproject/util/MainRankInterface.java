@@ -0,0 +1,13 @@
+package com.cos.petproject.util;
+
+public interface MainRankInterface {
+	int getId();
+
+	int getAnimalId();
+
+	String getTitle();
+
+	int getCounter();
+
+	String getThumbnailUrl();
+}
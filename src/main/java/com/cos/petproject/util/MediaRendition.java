@@ -0,0 +1,47 @@
+package com.cos.petproject.util;
+
+import java.util.regex.Pattern;
+
+// 게시글 이미지 크기별 사본 (/media/{hash}/{이름})
+// 원본보다 작을 때만 줄이고, 가로 폭 기준으로 비율을 유지한다.
+public enum MediaRendition {
+	THUMB("thumb", 120), // 목록 썸네일 (60px 표시, 고해상도 화면용 2배)
+	CARD("card", 640), // 메인페이지 인기글 카드 (322px 표시)
+	DETAIL("detail", 1000); // 상세페이지 본문
+
+	// 우리 서버에 저장된 이미지 주소만 바꾼다 (외부 주소, data URI 는 그대로)
+	private static final Pattern MEDIA_URL = Pattern.compile("/media/[0-9a-f]{64}");
+
+	private final String name;
+	private final int width;
+
+	MediaRendition(String name, int width) {
+		this.name = name;
+		this.width = width;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	// /media/{hash} -> /media/{hash}/{name}
+	public String url(String src) {
+		if (src == null || !MEDIA_URL.matcher(src).matches()) {
+			return src;
+		}
+		return src + "/" + name;
+	}
+
+	public static MediaRendition fromName(String name) {
+		for (MediaRendition rendition : values()) {
+			if (rendition.name.equals(name)) {
+				return rendition;
+			}
+		}
+		return null;
+	}
+}
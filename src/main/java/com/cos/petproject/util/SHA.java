@@ -2,26 +2,37 @@ package com.cos.petproject.util;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class SHA {
 
-	public static String encrypt(String rawPassword, MyAlgorithm algorithm) {
-		// 1. SHA256 함수를 가진 클래스 객체 가져오기
-		MessageDigest md = null;
-		try {
-			md = MessageDigest.getInstance(algorithm.getType()); // SHA-256, SHA-512
-		} catch (NoSuchAlgorithmException e) {
-			e.printStackTrace();
+	// MessageDigest 는 스레드에 안전하지 않아서 스레드마다 하나씩 만들어두고 재사용
+	private static final Map<MyAlgorithm, ThreadLocal<MessageDigest>> DIGESTS = new EnumMap<>(MyAlgorithm.class);
+
+	static {
+		for (MyAlgorithm algorithm : MyAlgorithm.values()) {
+			DIGESTS.put(algorithm, ThreadLocal.withInitial(() -> newDigest(algorithm)));
 		}
+	}
+
+	public static String encrypt(String rawPassword, MyAlgorithm algorithm) {
+		// 1. 스레드에 만들어둔 SHA256 객체 가져오기
+		MessageDigest md = DIGESTS.get(algorithm).get();
+
+		// 2. 비밀번호 1234 -> SHA256 던지기 (digest() 가 끝나면 md 는 다시 초기 상태)
+		// 기존에 저장된 해시와 같은 값이 나오도록 문자 인코딩은 예전처럼 기본값 사용
+		byte[] digest = md.digest(rawPassword.getBytes());
 
-		// 2. 비밀번호 1234 -> SHA256 던지기
-		md.update(rawPassword.getBytes());
-		
 		// 3. 암호화된 글자를 16진수로 변환(헥사코드)
-		StringBuilder sb = new StringBuilder();
-		for(Byte b : md.digest()) {
-			sb.append(String.format("%02x", b));
+		return Hex.encode(digest);
+	}
+
+	private static MessageDigest newDigest(MyAlgorithm algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm.getType()); // SHA-256, SHA-512
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
 		}
-		return sb.toString();
 	}
 }
@@ -0,0 +1,59 @@
+package com.cos.petproject.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+
+// 검색어/게시글을 검색 단어로 나누기
+// 한글(한자, 가나 포함)은 띄어쓰기와 조사가 제각각이라 두 글자씩 겹쳐서 자른다. (강아지 -> 강아, 아지)
+// 한 글자 단어는 그대로, 영어/숫자는 단어 단위로 소문자로 바꿔서 사용한다.
+public class SearchTokenizer {
+
+	// Summernote 본문 html 에서 글자만
+	public static String plainText(String html) {
+		if (html == null || html.isEmpty()) {
+			return "";
+		}
+		return Jsoup.parse(html).text();
+	}
+
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) {
+			return tokens;
+		}
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			if (isCjk(c)) {
+				int start = i;
+				while (i < length && isCjk(text.charAt(i))) {
+					i++;
+				}
+				if (i - start == 1) {
+					tokens.add(text.substring(start, i));
+				}
+				for (int j = start; j + 2 <= i; j++) {
+					tokens.add(text.substring(j, j + 2));
+				}
+			} else if (Character.isLetterOrDigit(c)) {
+				int start = i;
+				while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isCjk(text.charAt(i))) {
+					i++;
+				}
+				tokens.add(text.substring(start, i).toLowerCase());
+			} else {
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static boolean isCjk(char c) {
+		Character.UnicodeScript script = Character.UnicodeScript.of(c);
+		return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+				|| script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+	}
+}
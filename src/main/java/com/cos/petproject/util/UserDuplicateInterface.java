@@ -0,0 +1,10 @@
+package com.cos.petproject.util;
+
+// 회원가입 중복확인 (아이디, 이메일, 전화번호 각각 이미 있으면 1 이상)
+public interface UserDuplicateInterface {
+	int getUsernameCount();
+
+	int getEmailCount();
+
+	int getPhoneCount();
+}
@@ -1,6 +0,0 @@
-package com.cos.petproject.util;
-
-public interface mChkAuthKey {
-	String getEmail();
-	String getAuthKey();
-}
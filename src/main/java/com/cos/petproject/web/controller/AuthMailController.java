@@ -14,7 +14,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import com.cos.petproject.domain.authMail.AuthEmailRepository;
 import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
 import com.cos.petproject.service.AuthEmailService;
 import com.cos.petproject.web.dto.AuthEmailReqDto;
@@ -27,7 +26,6 @@ import lombok.RequiredArgsConstructor;
 public class AuthMailController {
 	
 	private final AuthEmailService authEmailService;
-	private final AuthEmailRepository authEmailRepository;
 	
 	
 	
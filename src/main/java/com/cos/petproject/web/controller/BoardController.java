@@ -0,0 +1,265 @@
+package com.cos.petproject.web.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpSession;
+import javax.validation.Valid;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import com.cos.petproject.domain.board.AnimalBoard;
+import com.cos.petproject.domain.board.Board;
+import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
+import com.cos.petproject.handler.exception.MyNotFoundException;
+import com.cos.petproject.service.BoardBackfillService;
+import com.cos.petproject.service.BoardDetailService;
+import com.cos.petproject.service.BoardFragmentCache;
+import com.cos.petproject.service.BoardService;
+import com.cos.petproject.service.ViewCounterService;
+import com.cos.petproject.util.BoardListInterface;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.util.DateFormats;
+import com.cos.petproject.util.Script;
+import com.cos.petproject.web.dto.BoardDetailRespDto;
+import com.cos.petproject.web.dto.CMRespDto;
+import com.cos.petproject.web.dto.CommentSaveReqDto;
+import com.cos.petproject.web.dto.board.BoardSaveReqDto;
+import com.cos.petproject.web.dto.user.PrincipalDto;
+
+import lombok.RequiredArgsConstructor;
+
+// 동물별 게시판 (자랑하기 /{animalId}/boast, QnA /{animalId}/qna, 팁 /{animalId}/tip)
+// 게시판 이름은 주소에서 BoardType 으로 바꿔서 BoardService 에 넘긴다.
+// 화면은 게시판마다 따로 있고 (cat/boast/list.jsp ...) 모델 이름도 예전처럼 boastEntity, qnaEntity, tipEntity 로 담는다.
+@RequiredArgsConstructor
+@Controller
+public class BoardController {
+
+	private static final String ANIMAL_BOARD = "/{animalId:[0-9]+}/{board:boast|qna|tip}";
+
+	private final BoardService boardService;
+	private final BoardDetailService boardDetailService;
+	private final ViewCounterService viewCounterService;
+	private final BoardFragmentCache boardFragmentCache;
+	private final BoardBackfillService boardBackfillService;
+	private final HttpSession session;
+
+	// 글작성 기능---------------------------------
+	@PostMapping(ANIMAL_BOARD)
+	public @ResponseBody String save(@PathVariable int animalId, @PathVariable String board,
+			@Valid BoardSaveReqDto dto, BindingResult bindingResult) {
+
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+
+		// 인증
+		if (principal == null) { // 로그인 안됨
+			return Script.href("/user/loginForm", "잘못된 접근입니다");
+		}
+
+		// 유효성 검사
+		if (bindingResult.hasErrors()) {
+			Map<String, String> errorMap = new HashMap<>();
+			for (FieldError error : bindingResult.getFieldErrors()) {
+				errorMap.put(error.getField(), error.getDefaultMessage());
+			}
+			return Script.back(errorMap.toString());
+		}
+
+		if (animal(animalId) == null) {
+			return Script.href("/main");
+		}
+
+		// 글 작성
+		boardService.save(BoardType.fromTable(board), animalId, dto.getTitle(), dto.getContent(), principal.getId());
+
+		return Script.href("/" + animalId + "/" + board + "?page=0");
+	}
+
+	// 글수정 기능---------------------------------
+	@PutMapping(ANIMAL_BOARD + "/{id}")
+	public @ResponseBody CMRespDto<String> update(@PathVariable int animalId, @PathVariable String board,
+			@PathVariable int id, @RequestBody @Valid BoardSaveReqDto dto, BindingResult bindingResult) {
+
+		// 유효성 검사(공통로직)
+		if (bindingResult.hasErrors()) {
+			Map<String, String> errorMap = new HashMap<>();
+			for (FieldError error : bindingResult.getFieldErrors()) {
+				errorMap.put(error.getField(), error.getDefaultMessage());
+			}
+			throw new MyAsyncNotFoundException(errorMap.toString());
+		}
+
+		// 인증
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null) {
+			throw new MyAsyncNotFoundException("인증이 되지 않았습니다.");
+		}
+
+		boardService.update(BoardType.fromTable(board), animalId, id, dto.getTitle(), dto.getContent(), principal);
+
+		return new CMRespDto<>(1, "업데이트 성공", null);
+	}
+
+	// 글삭제 기능---------------------------------
+	@DeleteMapping("/{board:boast|qna|tip}/{id}")
+	public @ResponseBody CMRespDto<String> delete(@PathVariable String board, @PathVariable int id) {
+
+		// 인증이 된 사람만 함수 접근 가능!! (로그인 된 사람)
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null) {
+			throw new MyAsyncNotFoundException("인증이 되지 않았습니다.");
+		}
+
+		boardService.delete(BoardType.fromTable(board), id, principal);
+
+		return new CMRespDto<String>(1, "성공", null); // @ResponseBody 데이터 리턴!! String
+	}
+
+	// 댓글작성 기능---------------------------------
+	@PostMapping(ANIMAL_BOARD + "/{id}/comment")
+	public @ResponseBody String commentSave(@PathVariable int animalId, @PathVariable String board,
+			@PathVariable int id, @Valid CommentSaveReqDto dto, BindingResult bindingResult) {
+
+		// 세션이 있는지 검사
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null) {
+			throw new MyNotFoundException("인증이 되지 않았습니다.");
+		}
+
+		// 유효성 검사
+		if (bindingResult.hasErrors()) {
+			Map<String, String> errorMap = new HashMap<>();
+			for (FieldError error : bindingResult.getFieldErrors()) {
+				errorMap.put(error.getField(), error.getDefaultMessage());
+			}
+			return Script.back(errorMap.toString());
+		}
+
+		if (animal(animalId) == null) {
+			return Script.href("/main");
+		}
+
+		boardService.saveComment(BoardType.fromTable(board), id, dto.getContent(), principal.getId());
+
+		return Script.href("/" + animalId + "/" + board + "/" + id);
+	}
+
+	// 페이지 불러오기
+	@GetMapping(ANIMAL_BOARD + "/{id}/updateForm")
+	public String updateForm(@PathVariable int animalId, @PathVariable String board, @PathVariable int id,
+			Model model) {
+		if (animal(animalId) == null) {
+			return "redirect:/main";
+		}
+
+		Board boardEntity = boardService.findById(BoardType.fromTable(board), id);
+
+		model.addAttribute(board + "Entity", boardEntity);
+		model.addAttribute("parseCreatedAt", boardEntity.getCreatedAt().format(DateFormats.DATE_TIME));
+
+		return animal(animalId) + "/" + board + "/updateForm";
+	}
+
+	@GetMapping(ANIMAL_BOARD + "/saveForm")
+	public String saveForm(@PathVariable int animalId, @PathVariable String board) {
+		if (animal(animalId) == null) {
+			return "redirect:/main";
+		}
+		return animal(animalId) + "/" + board + "/saveForm";
+	}
+
+	@GetMapping(ANIMAL_BOARD)
+	public String home(@PathVariable int animalId, @PathVariable String board,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(required = false) Integer before, Model model) {
+		if (animal(animalId) == null) {
+			return "redirect:/main";
+		}
+
+		BoardType type = BoardType.fromTable(board);
+		int size = BoardService.PAGE_SIZE;
+		long total = boardService.count(type, animalId);
+
+		List<BoardListInterface> rows = boardService.list(type, animalId, page, before);
+		// 다음 페이지 링크는 keyset (offset 모드에서도), page 는 화면 페이지 번호 표시용으로 같이 넘긴다
+		if (rows.size() == size) {
+			model.addAttribute("nextBefore", rows.get(size - 1).getId());
+		}
+		Page<BoardListInterface> boardEntity = new PageImpl<>(rows, PageRequest.of(page, size), total);
+		int pageNumber = boardEntity.getPageable().getPageNumber();
+		int pageBlock = 10;
+		int startBlockPage = ((pageNumber) / pageBlock) * pageBlock + 1;
+		int endBlockPage = startBlockPage + pageBlock - 1;
+
+		model.addAttribute("startBlockPage", startBlockPage);
+		model.addAttribute("endBlockPage", endBlockPage);
+		model.addAttribute(board + "Entity", boardEntity);
+
+		return animal(animalId) + "/" + board + "/list";
+	}
+
+	@GetMapping(ANIMAL_BOARD + "/{id}")
+	public String detail(@PathVariable int animalId, @PathVariable String board, @PathVariable int id,
+			Model model) {
+		if (animal(animalId) == null) {
+			return "redirect:/main";
+		}
+
+		BoardType type = BoardType.fromTable(board);
+
+		// 게시판 조회수 증가
+		viewCounterService.increment(type, id);
+
+		// id로 게시글 찾기 (작성자, 동물, 댓글 첫 페이지까지)
+		BoardDetailRespDto<AnimalBoard> detail = boardDetailService.detail(type, id);
+		AnimalBoard boardEntity = detail.getBoard();
+
+		// 모델에 담기 (제목, 작성자, 작성일, 본문은 캐시된 html 조각)
+		model.addAttribute(board + "Entity", boardEntity);
+		model.addAttribute("fragment", boardFragmentCache.get(type, boardEntity));
+		model.addAttribute("comments", detail.getComments());
+		model.addAttribute("commentAfter", detail.getCommentAfter());
+
+		return animal(animalId) + "/" + board + "/detail";
+	}
+
+	// 예전 글 목록 미리보기 채우기 (관리자 전용)
+	@PostMapping("/admin/board/backfill")
+	public @ResponseBody CMRespDto<String> backfill() {
+
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null || !principal.getAuthority().equals("admin")) {
+			throw new MyAsyncNotFoundException("관리자만 실행할 수 있습니다.");
+		}
+
+		if (!boardBackfillService.start()) {
+			return new CMRespDto<>(-1, "이미 실행중입니다.", null);
+		}
+		return new CMRespDto<>(1, "시작", null);
+	}
+
+	// 화면 폴더 (1 - 냐옹이, 2 - 멍멍이, 그 외에는 null)
+	private static String animal(int animalId) {
+		if (animalId == 1) {
+			return "cat";
+		} else if (animalId == 2) {
+			return "dog";
+		}
+		return null;
+	}
+}
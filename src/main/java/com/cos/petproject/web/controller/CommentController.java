@@ -1,18 +1,26 @@
 package com.cos.petproject.web.controller;
 
+import java.util.List;
+
 import javax.servlet.http.HttpSession;
 
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import com.cos.petproject.domain.comment.Comment;
 import com.cos.petproject.domain.comment.CommentRepository;
-import com.cos.petproject.domain.user.User;
 import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
+import com.cos.petproject.service.BoardDetailService;
+import com.cos.petproject.util.BoardType;
 import com.cos.petproject.web.dto.CMRespDto;
+import com.cos.petproject.web.dto.CommentPageRespDto;
+import com.cos.petproject.web.dto.CommentRespDto;
+import com.cos.petproject.web.dto.user.PrincipalDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,15 +29,30 @@ import lombok.RequiredArgsConstructor;
 public class CommentController {
 	
 	private final CommentRepository commentRepository;
+	private final BoardDetailService boardDetailService;
 	private final HttpSession session;
 	
 	
+	// 댓글 목록 (상세페이지 스크롤 시 다음 페이지) ---------------------------
+	@GetMapping("/api/{board}/{id}/comments")
+	public @ResponseBody CMRespDto<CommentPageRespDto> comments(@PathVariable String board, @PathVariable int id,
+			@RequestParam(defaultValue = "0") int after) {
+
+		BoardType type = BoardType.fromTable(board);
+		if (type == null) {
+			throw new MyAsyncNotFoundException("없는 게시판입니다.");
+		}
+
+		List<CommentRespDto> comments = boardDetailService.comments(type, id, after);
+		return new CMRespDto<>(1, "성공", new CommentPageRespDto(comments, BoardDetailService.nextAfter(comments)));
+	}
+
 	// 댓글 삭제기능 ------------------------------------------
 	@DeleteMapping("/comment/{id}")
 	public @ResponseBody CMRespDto<String> deleteById(@PathVariable int id) {
 		
 		
-		User principal = (User) session.getAttribute("principal");
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
 		if(principal == null) {
 			throw new MyAsyncNotFoundException("인증되지 않은 사용자입니다");
 		}
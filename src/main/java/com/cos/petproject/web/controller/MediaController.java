@@ -0,0 +1,144 @@
+package com.cos.petproject.web.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
+import com.cos.petproject.service.MediaMigrationService;
+import com.cos.petproject.service.MediaRenditionService;
+import com.cos.petproject.service.MediaStore;
+import com.cos.petproject.util.MediaRendition;
+import com.cos.petproject.web.dto.CMRespDto;
+import com.cos.petproject.web.dto.user.PrincipalDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Controller
+public class MediaController {
+
+	// 이미지는 내용이 바뀌지 않으므로 1년 동안 캐시
+	private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+	private final MediaStore mediaStore;
+	private final MediaMigrationService mediaMigrationService;
+	private final MediaRenditionService mediaRenditionService;
+	private final HttpSession session;
+
+	// 에디터 이미지 업로드 -> 이미지 주소 리턴
+	@PostMapping("/media")
+	public @ResponseBody CMRespDto<String> upload(@RequestParam("file") MultipartFile file) {
+
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null) {
+			throw new MyAsyncNotFoundException("인증이 되지 않았습니다.");
+		}
+
+		try (InputStream in = file.getInputStream()) {
+			String hash = mediaStore.store(in);
+			return new CMRespDto<>(1, "성공", MediaStore.urlOf(hash));
+		} catch (IOException e) {
+			throw new MyAsyncNotFoundException("이미지를 저장할 수 없습니다. " + e.getMessage());
+		}
+	}
+
+	// 이미지 응답 (톰캣 sendfile 또는 FileChannel.transferTo 로 복사 없이 전송)
+	@GetMapping("/media/{hash}")
+	public void media(@PathVariable String hash, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+
+		Path path = mediaStore.find(hash);
+		if (path == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		sendFile(path, "\"" + hash + "\"", request, response);
+	}
+
+	// 크기별 사본 (처음 요청될 때 만들어서 저장, 줄일 필요가 없으면 원본)
+	@GetMapping("/media/{hash}/{rendition:thumb|card|detail}")
+	public void rendition(@PathVariable String hash, @PathVariable String rendition, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+
+		Path path = mediaRenditionService.find(hash, MediaRendition.fromName(rendition));
+		if (path == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		try {
+			sendFile(path, "\"" + hash + "-" + rendition + "\"", request, response);
+		} catch (NoSuchFileException e) {
+			// 보내기 직전에 사본이 지워졌으면 원본을 보낸다
+			Path original = mediaStore.find(hash);
+			if (original == null) {
+				response.sendError(HttpServletResponse.SC_NOT_FOUND);
+				return;
+			}
+			sendFile(original, "\"" + hash + "\"", request, response);
+		}
+	}
+
+	// 예전 글 본문의 base64 이미지를 /media 로 옮기기 (관리자 전용)
+	@PostMapping("/admin/media/migrate")
+	public @ResponseBody CMRespDto<String> migrate() {
+
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null || !principal.getAuthority().equals("admin")) {
+			throw new MyAsyncNotFoundException("관리자만 실행할 수 있습니다.");
+		}
+
+		if (!mediaMigrationService.start()) {
+			return new CMRespDto<>(-1, "이미 실행중입니다.", null);
+		}
+		return new CMRespDto<>(1, "시작", null);
+	}
+
+	static void sendFile(Path path, String etag, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+
+		response.setHeader("Cache-Control", CACHE_CONTROL);
+		response.setHeader("ETag", etag);
+		if (etag.equals(request.getHeader("If-None-Match"))) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(path)) {
+			long size = channel.size();
+			String contentType = MediaStore.contentType(path);
+			response.setContentType(contentType == null ? "application/octet-stream" : contentType);
+			response.setContentLengthLong(size);
+
+			if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+				// 톰캣 NIO 커넥터가 직접 파일을 소켓으로 보낸다
+				request.setAttribute("org.apache.tomcat.sendfile.filename", path.toAbsolutePath().toString());
+				request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+				request.setAttribute("org.apache.tomcat.sendfile.end", size);
+				return;
+			}
+
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = 0;
+			while (position < size) {
+				position += channel.transferTo(position, size - position, out);
+			}
+		}
+	}
+}
@@ -1,17 +1,15 @@
 package com.cos.petproject.web.controller;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -25,32 +23,35 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import com.cos.petproject.domain.animal.Animal;
-import com.cos.petproject.domain.notice.Notice;
-import com.cos.petproject.domain.notice.NoticeRepository;
-import com.cos.petproject.domain.qna.Qna;
-import com.cos.petproject.domain.user.User;
+import com.cos.petproject.domain.board.Board;
 import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
-import com.cos.petproject.handler.exception.MyNotFoundException;
+import com.cos.petproject.service.BoardFragmentCache;
+import com.cos.petproject.service.BoardService;
+import com.cos.petproject.service.ViewCounterService;
+import com.cos.petproject.util.BoardListInterface;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.util.DateFormats;
 import com.cos.petproject.util.Script;
 import com.cos.petproject.web.dto.CMRespDto;
-import com.cos.petproject.web.dto.board.NoticeSaveReqDto;
-import com.cos.petproject.web.dto.board.QnaSaveReqDto;
+import com.cos.petproject.web.dto.board.BoardSaveReqDto;
+import com.cos.petproject.web.dto.user.PrincipalDto;
 
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor 
 @Controller
 public class NoticeController {
-	private final NoticeRepository noticeRepository;
+	private final BoardService boardService;
+	private final ViewCounterService viewCounterService;
+	private final BoardFragmentCache boardFragmentCache;
 	private final HttpSession session;
 	
 	
 	// 글작성 기능---------------------------------
 	@PostMapping("/notice")
-	public @ResponseBody String save( @Valid NoticeSaveReqDto dto, BindingResult bindingResult) {
+	public @ResponseBody String save( @Valid BoardSaveReqDto dto, BindingResult bindingResult) {
 		
-		User principal = (User) session.getAttribute("principal");
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
 
 		// 인증
 		if (principal == null) { // 로그인 안됨
@@ -73,12 +74,8 @@ public class NoticeController {
 			return Script.back(errorMap.toString());
 		}
 
-		// <p> 태그 제거
-		dto.setContent(dto.getContent().replaceAll("<p>", ""));
-		dto.setContent(dto.getContent().replaceAll("</p>", ""));
-
 		// 글 작성
-		noticeRepository.mSave(dto.getTitle(), dto.getContent(), principal);
+		boardService.save(BoardType.NOTICE, 0, dto.getTitle(), dto.getContent(), principal.getId());
 		
 		return Script.href("/notice?page=0");
 
@@ -86,7 +83,7 @@ public class NoticeController {
 	
 	// 글수정 기능---------------------------------
 	@PutMapping("/notice/{id}")
-	public @ResponseBody CMRespDto<String> update(@PathVariable int id, @RequestBody @Valid NoticeSaveReqDto dto, BindingResult bindingResult) {
+	public @ResponseBody CMRespDto<String> update(@PathVariable int id, @RequestBody @Valid BoardSaveReqDto dto, BindingResult bindingResult) {
 		
 		//유효성 검사(공통로직)
 		if (bindingResult.hasErrors()) {
@@ -98,24 +95,12 @@ public class NoticeController {
 		}
 
 		//인증
-		User principal = (User) session.getAttribute("principal");
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
 		if(principal == null) {
 			throw new MyAsyncNotFoundException("인증이 되지 않았습니다.");
 		}
-		Notice noticeEntity = noticeRepository.findById(id)
-				.orElseThrow(()->new MyAsyncNotFoundException("해당 게시글을 찾을 수 없습니다"));
-		
-		if(principal.getId() != noticeEntity.getUser().getId()) {
-			throw new MyAsyncNotFoundException("해당 게시물의 권한이 없습니다");
-		}
 		
-		
-		Notice notice = dto.toEntity(principal);
-		notice.setUser(principal);
-		notice.setId(id);
-		notice.setCounter(noticeEntity.getCounter());
-		notice.setCreatedAt(LocalDateTime.now());
-		noticeRepository.save(notice);			
+		boardService.update(BoardType.NOTICE, 0, id, dto.getTitle(), dto.getContent(), principal);
 		
 		return new CMRespDto<>(1, "업데이트 성공", null);
 		
@@ -131,22 +116,13 @@ public class NoticeController {
 	public @ResponseBody CMRespDto<String> delete(@PathVariable int id) {
 	
 		// 인증이 된 사람만 함수 접근 가능!! (로그인 된 사람)
-		User principal = (User) session.getAttribute("principal");
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
 		if (principal == null) {
 			throw new MyAsyncNotFoundException("인증이 되지 않았습니다.");
 		}
 
-		// 권한이 있는 사람만 함수 접근 가능(principal.id == {id})
-		Notice noticeEntity = noticeRepository.findById(id).orElseThrow(() -> new MyAsyncNotFoundException("해당글을 찾을 수 없습니다."));
-		if (principal.getId() != noticeEntity.getUser().getId()) {
-			throw new MyAsyncNotFoundException("해당글을 삭제할 권한이 없습니다.");
-		}
-
-		try {
-			noticeRepository.deleteById(id); // 오류 발생??? (id가 없으면)
-		} catch (Exception e) {
-			throw new MyAsyncNotFoundException(id + "를 찾을 수 없어서 삭제할 수 없어요.");
-		}
+		// 권한이 있는 사람만 삭제 (작성자만)
+		boardService.delete(BoardType.NOTICE, id, principal);
 
 		return new CMRespDto<String>(1, "성공", null); // @ResponseBody 데이터 리턴!! String
 	}
@@ -157,10 +133,9 @@ public class NoticeController {
 	@GetMapping("/notice/{id}/updateForm")
 	public String noticeUpdateForm(@PathVariable int id, Model model) {
 		
-		Notice noticeEntity = noticeRepository.findById(id).orElseThrow(() -> new MyNotFoundException(id + " 페이지를 찾을 수 없습니다."));
+		Board noticeEntity = boardService.findById(BoardType.NOTICE, id);
 		
-		LocalDateTime boardCreatedAt = noticeEntity.getCreatedAt();
-		String parseCreatedAt = boardCreatedAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+		String parseCreatedAt = noticeEntity.getCreatedAt().format(DateFormats.DATE_TIME);
 
 		model.addAttribute("noticeEntity", noticeEntity);
 		model.addAttribute("parseCreatedAt", parseCreatedAt);
@@ -175,10 +150,18 @@ public class NoticeController {
 	}
 	
 	@GetMapping("/notice")
-	public String home(@RequestParam int page, Model model) {
+	public String home(@RequestParam(defaultValue = "0") int page, @RequestParam(required = false) Integer before,
+			Model model) {
 		
-		Pageable pageRequest = PageRequest.of(page, 10, Sort.by("id").descending());
-		Page<Notice> noticeEntity = noticeRepository.findAll(pageRequest);
+		int size = BoardService.PAGE_SIZE;
+		long total = boardService.count(BoardType.NOTICE, 0);
+
+		List<BoardListInterface> rows = boardService.list(BoardType.NOTICE, 0, page, before);
+		// 다음 페이지 링크는 keyset (offset 모드에서도), page 는 화면 페이지 번호 표시용으로 같이 넘긴다
+		if (rows.size() == size) {
+			model.addAttribute("nextBefore", rows.get(size - 1).getId());
+		}
+		Page<BoardListInterface> noticeEntity = new PageImpl<>(rows, PageRequest.of(page, size), total);
 		int pageNumber = noticeEntity.getPageable().getPageNumber();
 		int pageBlock = 10;
 		int startBlockPage = ((pageNumber) / pageBlock) * pageBlock + 1;
@@ -198,18 +181,14 @@ public class NoticeController {
 	public String detail(@PathVariable int id, Model model) {
 	
 	// 게시판 조회수 증가
-	noticeRepository.mCounter(id);
+	viewCounterService.increment(BoardType.NOTICE, id);
 
 	// id로 게시글 찾기
-	Notice noticeEntity = noticeRepository.findById(id).orElseThrow(() -> new MyNotFoundException(id + " 페이지를 찾을 수 없습니다."));
-
-	// 날짜변환
-	LocalDateTime boardCreatedAt = noticeEntity.getCreatedAt();
-	String parseCreatedAt = boardCreatedAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+	Board noticeEntity = boardService.findById(BoardType.NOTICE, id);
 
-	// 모델에 담기
+	// 모델에 담기 (제목, 작성자, 작성일, 본문은 캐시된 html 조각)
 	model.addAttribute("noticeEntity", noticeEntity);
-	model.addAttribute("parseCreatedAt", parseCreatedAt);
+	model.addAttribute("fragment", boardFragmentCache.get(BoardType.NOTICE, noticeEntity));
 
 	return "notice/detail";
 	}
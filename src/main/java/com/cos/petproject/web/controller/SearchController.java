@@ -0,0 +1,38 @@
+package com.cos.petproject.web.controller;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.cos.petproject.service.SearchIndex;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.web.dto.SearchRespDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Controller
+public class SearchController {
+
+	private static final int PAGE_SIZE = 10;
+
+	private final SearchIndex searchIndex;
+
+	// 게시글 검색 (board, animalId 를 주면 해당 게시판/동물만)
+	@GetMapping("/search")
+	public String search(@RequestParam(defaultValue = "") String q, @RequestParam(required = false) Integer animalId,
+			@RequestParam(required = false) String board, @RequestParam(defaultValue = "0") int page, Model model) {
+
+		BoardType type = board == null || board.isEmpty() ? null : BoardType.fromTable(board);
+		SearchRespDto result = searchIndex.search(q, type, animalId, Math.max(page, 0), PAGE_SIZE);
+
+		model.addAttribute("q", q);
+		model.addAttribute("animalId", animalId);
+		model.addAttribute("board", board);
+		model.addAttribute("result", result);
+		model.addAttribute("ready", searchIndex.isReady());
+
+		return "search/list";
+	}
+}
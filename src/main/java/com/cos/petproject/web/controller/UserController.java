@@ -3,10 +3,13 @@ package com.cos.petproject.web.controller;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.validation.Valid;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,14 +17,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import com.cos.petproject.domain.authMail.AuthEmailRepository;
 import com.cos.petproject.domain.user.User;
 import com.cos.petproject.domain.user.UserRepository;
 import com.cos.petproject.handler.exception.MyAsyncNotFoundException;
-import com.cos.petproject.util.MyAlgorithm;
-import com.cos.petproject.util.SHA;
+import com.cos.petproject.service.AuthEmailService;
+import com.cos.petproject.service.LoginThrottle;
+import com.cos.petproject.service.PasswordHasher;
+import com.cos.petproject.service.UserCache;
+import com.cos.petproject.service.UserExistenceIndex;
+import com.cos.petproject.service.UserExistenceIndex.Field;
 import com.cos.petproject.util.Script;
 import com.cos.petproject.web.dto.CMRespDto;
 import com.cos.petproject.web.dto.user.ChangePwDto;
@@ -29,6 +36,7 @@ import com.cos.petproject.web.dto.user.FindPwReqDto;
 import com.cos.petproject.web.dto.user.IdFindDto;
 import com.cos.petproject.web.dto.user.JoinReqDto;
 import com.cos.petproject.web.dto.user.LoginReqDto;
+import com.cos.petproject.web.dto.user.PrincipalDto;
 import com.cos.petproject.web.dto.user.UserUpdateDto;
 
 import lombok.RequiredArgsConstructor;
@@ -39,7 +47,11 @@ public class UserController {
 
 	private final UserRepository userRepository;
 	private final HttpSession session;
-	private final AuthEmailRepository authEmailRepository;
+	private final AuthEmailService authEmailService;
+	private final UserCache userCache;
+	private final PasswordHasher passwordHasher;
+	private final LoginThrottle loginThrottle;
+	private final UserExistenceIndex userExistenceIndex;
 	
 	private int userId;
 	
@@ -101,16 +113,26 @@ public class UserController {
 		System.out.println(userId);
 		System.out.println(dto.getPassword());
 		
-		String encPassword = SHA.encrypt(dto.getPassword(), MyAlgorithm.SHA256);
+		String encPassword = passwordHasher.hash(dto.getPassword());
 		dto.setPassword(encPassword);
 		User userEntity = userRepository.mPwChange(userId, dto.getPassword());
 		
 		return new CMRespDto<>(1, "비번 변경 완료", null);
 	}
 
+	// 아이디 중복확인 기능 ------------------------------------
+	@GetMapping("/user/idCheck")
+	public @ResponseBody CMRespDto<String> idCheck(@RequestParam String username) {
+		
+		if(userExistenceIndex.usernameExists(username)) {
+			return new CMRespDto<>(-1, "존재하는 아이디입니다", null);
+		}
+		return new CMRespDto<>(1, "사용 가능한 아이디입니다", null);
+	}
+
 	// 로그인 기능--------------------------------------------
 	@PostMapping("/login")
-	public @ResponseBody String login(@Valid LoginReqDto dto, BindingResult bindingResult) {
+	public @ResponseBody String login(@Valid LoginReqDto dto, BindingResult bindingResult, HttpServletRequest request) {
         
 		// username password 
         
@@ -128,15 +150,22 @@ public class UserController {
               }
            return Script.back(errorMap.toString());
            }
-      String encPassword = SHA.encrypt(dto.getPassword(), MyAlgorithm.SHA256);
-      dto.setPassword(encPassword);
+      // 시도 횟수 제한 (해시 계산, DB 조회 전에 거절)
+      if(!loginThrottle.tryAcquire(dto.getUsername(), request.getRemoteAddr())) {
+    	  	return Script.back("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요");
+      }
 
       // db
-      User userEntity = userRepository.mLogin(dto.getUsername(), dto.getPassword());
-      if(userEntity == null) {
+      User userEntity = userRepository.mFindByUsername(dto.getUsername());
+      if(userEntity == null || !passwordHasher.matches(dto.getPassword(), userEntity.getPassword())) {
     	  	return Script.back("아이디 혹은 비밀번호를 잘못 입력하였습니다");
       }else {
-    	  	session.setAttribute("principal", userEntity); 
+    	  	// 예전 방식(또는 반복횟수가 적은) 비밀번호는 로그인할 때 새 방식으로 바꿔둔다
+    	  	if(passwordHasher.needsRehash(userEntity.getPassword())) {
+    	  		userRepository.mUpdatePassword(userEntity.getId(), passwordHasher.hash(dto.getPassword()));
+    	  	}
+    	  	loginThrottle.succeeded(dto.getUsername());
+    	  	session.setAttribute("principal", PrincipalDto.of(userEntity)); // 세션에는 필요한 값만
     	  	return Script.href("/","로그인 완료");
       }
 
@@ -144,10 +173,8 @@ public class UserController {
 	// 회원가입 기능 --------------------------------------------
 	@PostMapping("/join")
 	public @ResponseBody String join(@Valid JoinReqDto dto, BindingResult bindingResult ) {
-		System.out.println(dto.getAuthKey());
-		String authKey = authEmailRepository.mFindAuthKey(dto.getAuthKey());
-		System.out.println(authKey);
-		if(authKey == null) {
+		// 인증번호를 받은 이메일로 가입하는지 확인
+		if(!authEmailService.인증확인(dto.getEmail(), dto.getAuthKey())) {
 			return Script.back("인증번호를 잘못 입력하였습니다.");
 		}
 		
@@ -162,23 +189,21 @@ public class UserController {
 			return Script.back(errorMap.toString());
 		}
 		
-		// 아이디, 전화번호, 이메일 중복확인
-		String idCheck = userRepository.mIdCheck(dto.getUsername());
-		String phoneCheck = userRepository.mPhoneCheck(dto.getPhone());
-		String emailCheck = userRepository.mEmailCheck(dto.getEmail());
+		// 아이디, 전화번호, 이메일 중복확인 (대부분 filter 에서 끝나고, 필요할 때만 쿼리 한번)
+		Field duplicate = userExistenceIndex.findDuplicate(dto.getUsername(), dto.getEmail(), dto.getPhone());
 		
-		if(idCheck != null) {
+		if(duplicate == Field.USERNAME) {
 			return Script.back("존재하는 아이디입니다");
 		}
-		if(emailCheck != null) {
+		if(duplicate == Field.EMAIL) {
 			return Script.back("존재하는 이메일입니다");
 		}
-		if(phoneCheck != null) {
+		if(duplicate == Field.PHONE) {
 			return Script.back("존재하는 전화번호입니다");
 		}
 		
 		// 입력받은 비밀번호 해쉬값으로 변경
-		String encPassword = SHA.encrypt(dto.getPassword(), MyAlgorithm.SHA256);
+		String encPassword = passwordHasher.hash(dto.getPassword());
 		// 패스워드를 해쉬패스워드로 저장하려고
 		dto.setPassword(encPassword);
 		
@@ -189,7 +214,14 @@ public class UserController {
 		}
 		
 		// save = insert
-		userRepository.save(dto.toEntity());
+		try {
+			userRepository.save(dto.toEntity());
+		} catch (DataIntegrityViolationException e) {
+			// 중복확인과 저장 사이에 같은 값으로 가입한 경우 (unique 제약조건)
+			return Script.back("이미 가입된 정보입니다");
+		}
+		userExistenceIndex.add(dto.getUsername(), dto.getEmail(), dto.getPhone());
+		authEmailService.인증완료(dto.getEmail());
 		
 		return Script.href("/user/loginForm"); 
 	}
@@ -200,23 +232,29 @@ public class UserController {
 	@PutMapping("/api/user/{id}")
 	public @ResponseBody CMRespDto<String> update(@PathVariable int id, @RequestBody UserUpdateDto dto) {
 		
-		String authKey = authEmailRepository.mFindAuthKey(dto.getEmail());
-		
-		if(!authKey.equals(dto.getAuthKey())) { 
+		if(!authEmailService.인증확인(dto.getEmail(), dto.getAuthKey())) { 
 			return new CMRespDto<>(0, "인증번호를 잘못 입력하였습니다." , null);
 		}
 		
-		User userEntity = (User) session.getAttribute("principal");
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null || principal.getId() != id) {
+			throw new MyAsyncNotFoundException("인증이 되지 않았습니다.");
+		}
+		User userEntity = userRepository.findById(id)
+				.orElseThrow(() -> new MyAsyncNotFoundException("회원을 찾을 수 없습니다."));
 	
 		userEntity.setEmail(dto.getEmail());
 		userEntity.setNickname(dto.getNickname());
 		userEntity.setPhone(dto.getPhone());
-		userEntity.setPassword(SHA.encrypt(dto.getPassword(), MyAlgorithm.SHA256));
-		
+		userEntity.setPassword(passwordHasher.hash(dto.getPassword()));
 		
-		session.setAttribute("principal", userEntity); // 세션 값 변경
 		
 		userRepository.save(userEntity);
+		userCache.invalidate(id);
+		userExistenceIndex.add(null, userEntity.getEmail(), userEntity.getPhone());
+		authEmailService.인증완료(userEntity.getEmail());
+		
+		session.setAttribute("principal", PrincipalDto.of(userEntity)); // 세션 값 변경
 
 		return new CMRespDto<>(1, "성공", null);
 
@@ -228,6 +266,7 @@ public class UserController {
 	public @ResponseBody CMRespDto<String> adminUpdate(@PathVariable int id) {
 		
 		userRepository.adminUpdate(id);
+		userCache.invalidate(id);
 		
 		return new CMRespDto<>(1, "성공", null);
 	}
@@ -263,7 +302,13 @@ public class UserController {
 	}
 
 	@GetMapping("/user/detail/{id}")
-	public String userDetail() {
+	public String userDetail(Model model) {
+
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
+		if (principal == null) {
+			return "redirect:/user/loginForm";
+		}
+		model.addAttribute("user", userCache.get(principal.getId()));
 
 		return "user/detail";
 	}
@@ -1,25 +1,24 @@
 package com.cos.petproject.web.controller;
 
-import java.util.Iterator;
 import java.util.List;
 
 import javax.servlet.http.HttpSession;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
 import com.cos.petproject.domain.user.User;
 import com.cos.petproject.domain.user.UserRepository;
-import com.cos.petproject.domain.visitor.VisitorRepository;
 import com.cos.petproject.handler.exception.MyNotFoundException;
-import com.cos.petproject.util.VisitorReportInterface;
-import com.cos.petproject.web.dto.CMRespDto;
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.cos.petproject.service.VisitorChartCache;
+import com.cos.petproject.service.VisitorChartCache.Chart;
+import com.cos.petproject.service.VisitorChartCache.Range;
+import com.cos.petproject.web.dto.user.PrincipalDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,14 +26,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class VisitorController {
 	
-	private final VisitorRepository visitorRepository;
+	private final VisitorChartCache visitorChartCache;
 	private final UserRepository userRepository;
 	private final HttpSession session;
 	
 	@GetMapping("/admin/main")
 	public String home(Model model) {
 		
-		User principal = (User) session.getAttribute("principal");
+		PrincipalDto principal = (PrincipalDto) session.getAttribute("principal");
 		
 		// 로그인 상태 확인
 		if(principal == null) {
@@ -53,60 +52,28 @@ public class VisitorController {
 		return "/admin/home";
 	}
 	
-	@PostMapping("/getAreaChartData")
-	public @ResponseBody CMRespDto<String> getAreaChartData(){
-		
-		// 최근 한달간 일별 방문자수 DB에서 가져와서 json 으로 만들기
-		List<VisitorReportInterface> vTList = visitorRepository.mVisitorOMITodayChk(); // DB에서 데이터 가져와서 리스트에 담음
-
-		Gson tGson = new Gson();
-		JsonArray tJArray = new JsonArray();
-				
-		Iterator<VisitorReportInterface> tIt = vTList.iterator();
-		while(tIt.hasNext()) {
-			VisitorReportInterface curVO = tIt.next();
-			JsonObject tObject = new JsonObject();
-			String tTime = (curVO.getTime()).toString();
-			int tCount = curVO.getId();
-			
-			tObject.addProperty("Time", tTime);
-			tObject.addProperty("Count", tCount);
-			tJArray.add(tObject);
-		}
-		String tJson = tGson.toJson(tJArray);
-		System.out.println(tJson);
-
-		return new CMRespDto<>(1, "성공", tJson);
+	// 최근 한달간 일별 방문자수
+	@GetMapping("/getAreaChartData")
+	public ResponseEntity<byte[]> getAreaChartData(WebRequest request){
+		return chartResponse(visitorChartCache.get(Range.LAST_30_DAYS), request);
 	}
 	
-	@PostMapping("/getBarChartData")
-	public @ResponseBody CMRespDto<String> getBarChartData(){
-		
-		// 1년간 월별 방문자수 DB에서 가져와서 json 으로 만들기
-		List<VisitorReportInterface> vMList = visitorRepository.mVisitorFaYMonthChk(); // DB에서 데이터 가져와서 리스트에 담음
-
-		// Gson : Java에서 Json을 파싱하고, 생성하기 위해 사용되는 구글에서 개발한 오픈소스
-		Gson mGson = new Gson();
-		JsonArray mJArray = new JsonArray();
-				
-		Iterator<VisitorReportInterface> mIt = vMList.iterator();
-		while(mIt.hasNext()) {
-			VisitorReportInterface mCurVO = mIt.next();
-			JsonObject mObject = new JsonObject();
-			String mTime = (mCurVO.getTime()).toString();
-			String mTimeS = mTime.substring(0, 7);
-			int mCount = mCurVO.getId();
-			
-			mObject.addProperty("Time", mTimeS);
-			mObject.addProperty("Count", mCount);
-			mJArray.add(mObject);
+	// 1년간 월별 방문자수
+	@GetMapping("/getBarChartData")
+	public ResponseEntity<byte[]> getBarChartData(WebRequest request){
+		return chartResponse(visitorChartCache.get(Range.LAST_12_MONTHS), request);
+	}
+	
+	// 미리 만들어둔 JSON 을 그대로 응답, 브라우저가 같은 ETag 를 보내면 304
+	private ResponseEntity<byte[]> chartResponse(Chart chart, WebRequest request) {
+		if (request.checkNotModified(chart.getEtag())) {
+			return null;
 		}
-		
-		String mJson = mGson.toJson(mJArray);
-
-		System.out.println(mJson);
-		
-		return new CMRespDto<>(1, "성공", mJson);
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(CacheControl.noCache())
+				.eTag(chart.getEtag())
+				.body(chart.getBody());
 	}
 	
 }
@@ -0,0 +1,15 @@
+package com.cos.petproject.web.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 상세 (글 + 작성자 + 동물은 board 에, 댓글 첫 페이지는 comments 에)
+@AllArgsConstructor
+@Getter
+public class BoardDetailRespDto<T> {
+	private final T board;
+	private final List<CommentRespDto> comments;
+	private final int commentAfter; // 다음 댓글 페이지를 불러올 기준 id (더 없으면 0)
+}
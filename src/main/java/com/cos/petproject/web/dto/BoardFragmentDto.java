@@ -0,0 +1,14 @@
+package com.cos.petproject.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상세페이지에서 글이 바뀌기 전까지 변하지 않는 부분을 미리 만들어둔 html
+// 조회수, 수정/삭제 버튼, 댓글은 화면에서 매번 그린다.
+@AllArgsConstructor
+@Getter
+public class BoardFragmentDto {
+	private final String title; // 제목 (escape 됨)
+	private final String meta; // 작성자, 작성일
+	private final String body; // 본문 (허용된 태그만)
+}
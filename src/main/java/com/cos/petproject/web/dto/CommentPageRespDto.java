@@ -0,0 +1,14 @@
+package com.cos.petproject.web.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 한 페이지 (/api/{board}/{id}/comments 응답)
+@AllArgsConstructor
+@Getter
+public class CommentPageRespDto {
+	private final List<CommentRespDto> comments;
+	private final int after; // 다음 페이지 요청 시 넘길 값 (더 없으면 0)
+}
@@ -0,0 +1,16 @@
+package com.cos.petproject.web.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 상세페이지 댓글 한 건 (작성자 이름만 조인해서 가져온다)
+@AllArgsConstructor
+@Getter
+public class CommentRespDto {
+	private final int id;
+	private final String content;
+	private final String username;
+	private final LocalDateTime createdAt;
+}
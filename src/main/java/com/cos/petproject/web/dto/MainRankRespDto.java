@@ -0,0 +1,15 @@
+package com.cos.petproject.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 메인페이지 인기글 (조회수 상위) 한 건
+@AllArgsConstructor
+@Getter
+public class MainRankRespDto {
+	private final int id;
+	private final int animalId;
+	private final String title;
+	private final int counter;
+	private final String thumbnailUrl; // 본문 첫번째 이미지의 카드 크기 사본 (없으면 빈 문자열)
+}
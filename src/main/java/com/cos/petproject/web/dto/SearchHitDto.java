@@ -0,0 +1,20 @@
+package com.cos.petproject.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 한 건
+@AllArgsConstructor
+@Getter
+public class SearchHitDto {
+	private final String board; // boast, qna, tip, notice
+	private final int id;
+	private final int animalId; // 공지사항은 0
+	private final String title;
+	private final double score;
+
+	// 글 주소
+	public String getUrl() {
+		return animalId == 0 ? "/" + board + "/" + id : "/" + animalId + "/" + board + "/" + id;
+	}
+}
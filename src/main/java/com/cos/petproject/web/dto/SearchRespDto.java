@@ -0,0 +1,20 @@
+package com.cos.petproject.web.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 한 페이지
+@AllArgsConstructor
+@Getter
+public class SearchRespDto {
+	private final List<SearchHitDto> hits;
+	private final int total; // 검색어가 모두 들어있는 글 수
+	private final int page;
+	private final int size;
+
+	public boolean isLast() {
+		return (long) (page + 1) * size >= total;
+	}
+}
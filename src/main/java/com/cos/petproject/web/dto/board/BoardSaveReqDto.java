@@ -3,28 +3,18 @@ package com.cos.petproject.web.dto.board;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 
-import com.cos.petproject.domain.qna.Qna;
-import com.cos.petproject.domain.user.User;
-
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+// 글작성/수정 (모든 게시판 공통)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
-public class QnaSaveReqDto {
+public class BoardSaveReqDto {
 
 	@Size(min = 1, max = 50)
 	@NotBlank
 	private String title;
 	private String content;
-	
-	public Qna toEntity(User principal) {
-		Qna qna = new Qna();
-		qna.setTitle(title);
-		qna.setContent(content);
-		qna.setUser(principal);
-		return qna;
-	}
-}
\ No newline at end of file
+}
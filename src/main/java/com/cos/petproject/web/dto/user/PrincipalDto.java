@@ -0,0 +1,26 @@
+package com.cos.petproject.web.dto.user;
+
+import java.io.Serializable;
+
+import com.cos.petproject.domain.user.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 세션에 저장하는 로그인 정보 (User 엔티티 대신 화면/권한 확인에 필요한 값만)
+// 비밀번호, 전화번호 같은 나머지 정보는 UserCache 에서 꺼내 쓴다.
+@AllArgsConstructor
+@Getter
+public class PrincipalDto implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int id;
+	private final String username;
+	private final String nickname;
+	private final String authority;
+
+	public static PrincipalDto of(User user) {
+		return new PrincipalDto(user.getId(), user.getUsername(), user.getNickname(), user.getAuthority());
+	}
+}
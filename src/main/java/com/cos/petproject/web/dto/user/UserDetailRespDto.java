@@ -0,0 +1,26 @@
+package com.cos.petproject.web.dto.user;
+
+import com.cos.petproject.domain.user.User;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내정보 화면용 회원 정보 (비밀번호 제외, UserCache 에 저장되므로 변경 불가)
+@AllArgsConstructor
+@Getter
+public class UserDetailRespDto {
+	private final int id;
+	private final String username;
+	private final String name;
+	private final String nickname;
+	private final String phone;
+	private final String email;
+	private final String gender;
+	private final String birth;
+	private final String authority;
+
+	public static UserDetailRespDto of(User user) {
+		return new UserDetailRespDto(user.getId(), user.getUsername(), user.getName(), user.getNickname(),
+				user.getPhone(), user.getEmail(), user.getGender(), user.getBirth(), user.getAuthority());
+	}
+}
@@ -20,7 +20,7 @@ function resetAreaCanvas(){
 	async function getAreaChartData() {
 		
 		let response = await fetch("http://localhost:8080/getAreaChartData", {
-			method: "Post",
+			method: "Get",
 		});
 		
 		let parseResponse = await response.json();
@@ -82,8 +82,7 @@ function resetAreaCanvas(){
 				var areaValueList = areaChart["data"]["datasets"]["0"]["data"];
 				
 				// 일별 방문자 수 차트
-				var tJsonData = parseResponse.body;
-				var tJData = JSON.parse(tJsonData);
+				var tJData = parseResponse.body;
 
 				
 					for (var i = 0; i < tJData.length; i++) { // tJData의 길이 까지 차트에 데이터를 집어넣는다
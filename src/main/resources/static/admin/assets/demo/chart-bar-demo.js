@@ -17,7 +17,7 @@ function resetBarCanvas(){
 async function getBarChartData() {
 
 	let response = await fetch("http://localhost:8080/getBarChartData", {
-		method: "Post",
+		method: "Get",
 	});
 	
 	let parseResponse = await response.json();
@@ -74,8 +74,7 @@ async function getBarChartData() {
 		var barValueList = myLineChart["data"]["datasets"]["0"]["data"];
 		
 		// 월별 방문자 수 차트
-		var mJsonData = parseResponse.body;
-		var mJData = JSON.parse(mJsonData);
+		var mJData = parseResponse.body;
 
 		for (var i = 0; i < mJData.length; i++) { // mJData의 길이 까지 차트에 데이터를 집어넣는다
 			var m = mJData[i];
@@ -0,0 +1,57 @@
+// 상세페이지 댓글 이어서 불러오기
+// 첫 페이지는 서버에서 그려주고, #comment-more 가 화면에 보이면 /api/{board}/{id}/comments 로 다음 페이지를 가져온다
+$(function() {
+	let more = document.getElementById("comment-more");
+	if (!more) {
+		return;
+	}
+
+	let loading = false;
+
+	async function loadComments() {
+		let after = more.dataset.after;
+		if (loading || after == "0") {
+			return;
+		}
+		loading = true;
+
+		let response = await fetch("/api/" + more.dataset.board + "/" + more.dataset.id + "/comments?after=" + after);
+		let parseResponse = await response.json();
+
+		if (parseResponse.code == 1) {
+			parseResponse.body.comments.forEach(function(comment) {
+				$(more).before(commentItem(comment, more.dataset.username));
+			});
+			more.dataset.after = parseResponse.body.after;
+		}
+		loading = false;
+
+		// 불러온 뒤에도 아직 화면 안에 있으면 다시 감지되도록
+		observer.unobserve(more);
+		observer.observe(more);
+	}
+
+	// 서버에서 그리는 댓글과 같은 모양 (내용은 text 로 넣어서 태그가 실행되지 않게)
+	function commentItem(comment, username) {
+		let header = $("<div class='d-flex'></div>")
+			.append($("<span class='font-italic'></span>").text("작성자 : " + comment.username)).append("&emsp;")
+			.append($("<div class='font-italic'></div>").text(comment.createdAt.replace("T", " ").substring(0, 19))).append("&emsp;");
+		if (username && username == comment.username) {
+			header.append($("<button type='button' class='btn btn-danger btn-sm'>삭제</button>")
+				.on("click", function() { reply_delete(comment.id); }));
+		}
+
+		return $("<ul class='list-group list-group-flush'></ul>").attr("id", "reply-" + comment.id)
+			.append($("<li class='list-group-item d-flex justify-content-between list-group-item-dark'></li>").append(header))
+			.append($("<li class='list-group-item d-flex justify-content-between list-group-item-secondary'></li>")
+				.append($("<div class='d-flex justify-content-between'></div>").append($("<p></p>").text(comment.content))))
+			.add("<p></p>");
+	}
+
+	let observer = new IntersectionObserver(function(entries) {
+		if (entries[0].isIntersecting) {
+			loadComments();
+		}
+	});
+	observer.observe(more);
+});
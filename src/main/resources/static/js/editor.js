@@ -0,0 +1,21 @@
+// summernote 이미지 업로드
+// base64 로 본문에 박히지 않도록 /media 에 올리고 돌려받은 주소를 img 로 넣는다
+async function uploadEditorImages(files, editor) {
+	for (let i = 0; i < files.length; i++) {
+		let formData = new FormData();
+		formData.append("file", files[i]);
+
+		let response = await fetch("/media", {
+			method: "post",
+			body: formData
+		});
+
+		let parseResponse = await response.json();
+
+		if (parseResponse.code == 1) {
+			$(editor).summernote("insertImage", parseResponse.body);
+		} else {
+			alert("이미지 업로드 실패 : " + parseResponse.msg);
+		}
+	}
+}
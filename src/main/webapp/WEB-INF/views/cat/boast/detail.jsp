@@ -8,7 +8,7 @@
 		<div class="card-header">
 			<div class="d-flex">
 				<!-- <div class="p-2">번호: ${boastEntity.id}</div> -->
-				<div class="p-2 flex-grow-1 bd-highlight">${boastEntity.title}</div>
+				<div class="p-2 flex-grow-1 bd-highlight">${fragment.title}</div>
 
 				
 			<c:if test="${sessionScope.principal.username == boastEntity.user.username || sessionScope.principal.authority eq 'admin'}">
@@ -26,23 +26,22 @@
 			
 			</div>
 			<div class="d-flex font-size">
-				<div class="p-2"><small>글 작성자 : ${boastEntity.user.username}</small></div>
-				<div class="p-2"><small>${parseCreatedAt}</small></div>
+				${fragment.meta}
 				<div class="p-2 "><small>조회 ${boastEntity.counter}</small></div>
 				<div class="flex-fill"></div>
 			</div>
 		</div>
-		<div class="card-body" style="overflow: auto;">${boastEntity.content}</div>
+		<div class="card-body" style="overflow: auto;">${fragment.body}</div>
 		<div class="card">
 			<div class="card-header" style="text-align: center;">댓글 리스트</div>
 			<p></p>
-			<c:forEach var="comment" items="${boastEntity.comments }" >
+			<c:forEach var="comment" items="${comments }" >
 				<ul id="reply-${comment.id}" class="list-group list-group-flush">
 					<li class="list-group-item d-flex justify-content-between list-group-item-dark">
 						<div class="d-flex ">
-							<span class="font-italic">작성자 : ${comment.user.username}</span>&emsp;
+							<span class="font-italic">작성자 : ${comment.username}</span>&emsp;
 							<div class="font-italic" id="commentCreatedAt"><fmt:parseDate value="${comment.createdAt}" pattern="yyyy-MM-dd'T'HH:mm:ss" var="parsedDateTime" type="both" /><fmt:formatDate pattern="yyyy-MM-dd' 'HH:mm:ss" value="${ parsedDateTime }" /></div>&emsp;
-							<c:if test="${sessionScope.principal.username == comment.user.username}">
+							<c:if test="${sessionScope.principal.username == comment.username}">
 								<button type="button" class="btn btn-danger btn-sm" onclick="reply_delete(${comment.id})">삭제</button>
 							</c:if>
 						</div>
@@ -55,6 +54,7 @@
 				</ul>
 				<p></p>
 			</c:forEach>
+			<div id="comment-more" data-board="boast" data-id="${boastEntity.id}" data-after="${commentAfter}" data-username="${sessionScope.principal.username}"></div>
 			<c:if test="${!empty sessionScope.principal.username}">
 			<form action="/1/boast/${boastEntity.id}/comment" method="post">
 				<div class="card-footer">
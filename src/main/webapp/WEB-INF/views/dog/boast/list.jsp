@@ -8,6 +8,7 @@
 			<tr>
 				<th>글 번호</th>
 				<th>제목</th>
+				<th>작성자</th>
 				<th>작성일</th>
 				<th>
 					<div  class="d-flex justify-content-between">
@@ -23,7 +24,16 @@
              <c:forEach var="boast" items="${boastEntity.content}">
              <tr>
                 <td>${boast.id }</td>
-               <td><a href="/${animalId}/boast/${boast.id}">${boast.title }</a></td>
+               <td>
+                  <div class="d-flex">
+                     <c:if test="${!empty boast.thumbnailUrl}"><img src="<c:out value='${boast.listThumbnailUrl}'/>" class="me-2" style="width: 60px; height: 60px; object-fit: cover"></c:if>
+                     <div>
+                        <a href="/${animalId}/boast/${boast.id}">${boast.title }</a><c:if test="${boast.commentCount > 0}"> [${boast.commentCount}]</c:if>
+                        <c:if test="${!empty boast.excerpt}"><br><small class="text-muted"><c:out value="${boast.excerpt}"/></small></c:if>
+                     </div>
+                  </div>
+               </td>
+               <td>${boast.nickname }</td>
                <td>${boast.createdAt }</td>
                <td>${boast.counter}</td>
                </tr>
@@ -35,7 +45,6 @@
    <br>
         <div class="d-flex justify-content-center">
 <ul class="pagination order-2">
-      
       <!-- 이전 -->
       <c:choose>
          <c:when test="${boastEntity.first}"></c:when>
@@ -44,27 +53,28 @@
          </c:otherwise>
       </c:choose>
       
-      <!-- 페이지 그룹, 끝을 totalPages로 설정함 -->
+      <!-- 페이지 그룹, 끝을 totalPages로 설정함 (바로 다음 페이지는 keyset : OFFSET 없이 마지막 글 다음부터) -->
       <c:forEach begin="${startBlockPage}" end="${boastEntity.totalPages}" var="i">
          <c:choose>
             <c:when test="${boastEntity.pageable.pageNumber + 1 ==  i}">
                <li class="page-item disabled"><a class="page-link" href="/${animalId}/boast?page=${i-1}">${i}</a></li>
             </c:when>
+            <c:when test="${boastEntity.pageable.pageNumber + 2 ==  i && !empty nextBefore}">
+               <li class="page-item"><a class="page-link" href="/${animalId}/boast?before=${nextBefore}&page=${i-1}">${i}</a></li>
+            </c:when>
             <c:otherwise>
                <li class="page-item"><a class="page-link" href="/${animalId}/boast?page=${i-1}">${i}</a></li>
             </c:otherwise>
          </c:choose>
       </c:forEach>
 
-      <!-- 다음 -->
+      <!-- 다음 (keyset) -->
       <c:choose>
-         <c:when test="${boastEntity.last}"></c:when>
+         <c:when test="${boastEntity.last || empty nextBefore}"></c:when>
          <c:otherwise>
-            <li class="page-item "><a class="page-link" href="/${animalId}/boast?page=${boastEntity.number+1}">></a></li>
+            <li class="page-item "><a class="page-link" href="/${animalId}/boast?before=${nextBefore}&page=${boastEntity.number+1}">></a></li>
          </c:otherwise>
       </c:choose>
-
-
       </ul>
 </div>
 </div>
@@ -8,6 +8,7 @@
 			<tr>
 				<th>글 번호</th>
 				<th>제목</th>
+				<th>작성자</th>
 				<th>작성일</th>
 				<th>
 					<div  class="d-flex justify-content-between">
@@ -23,7 +24,16 @@
              <c:forEach var="qna" items="${qnaEntity.content}">
              <tr>
                 <td>${qna.id }</td>
-               <td><a href="/${animalId}/qna/${qna.id}">${qna.title }</a></td>
+               <td>
+                  <div class="d-flex">
+                     <c:if test="${!empty qna.thumbnailUrl}"><img src="<c:out value='${qna.listThumbnailUrl}'/>" class="me-2" style="width: 60px; height: 60px; object-fit: cover"></c:if>
+                     <div>
+                        <a href="/${animalId}/qna/${qna.id}">${qna.title }</a><c:if test="${qna.commentCount > 0}"> [${qna.commentCount}]</c:if>
+                        <c:if test="${!empty qna.excerpt}"><br><small class="text-muted"><c:out value="${qna.excerpt}"/></small></c:if>
+                     </div>
+                  </div>
+               </td>
+               <td>${qna.nickname }</td>
                <td>${qna.createdAt }</td>
                <td>${qna.counter}</td>
                </tr>
@@ -36,7 +46,6 @@
    <br>
         <div class="d-flex justify-content-center">
 <ul class="pagination order-2">
-      
       <!-- 이전 -->
       <c:choose>
          <c:when test="${qnaEntity.first}"></c:when>
@@ -45,27 +54,28 @@
          </c:otherwise>
       </c:choose>
       
-      <!-- 페이지 그룹, 끝을 totalPages로 설정함 -->
+      <!-- 페이지 그룹, 끝을 totalPages로 설정함 (바로 다음 페이지는 keyset : OFFSET 없이 마지막 글 다음부터) -->
       <c:forEach begin="${startBlockPage}" end="${qnaEntity.totalPages}" var="i">
          <c:choose>
             <c:when test="${qnaEntity.pageable.pageNumber + 1 ==  i}">
                <li class="page-item disabled"><a class="page-link" href="/${animalId}/qna?page=${i-1}">${i}</a></li>
             </c:when>
+            <c:when test="${qnaEntity.pageable.pageNumber + 2 ==  i && !empty nextBefore}">
+               <li class="page-item"><a class="page-link" href="/${animalId}/qna?before=${nextBefore}&page=${i-1}">${i}</a></li>
+            </c:when>
             <c:otherwise>
                <li class="page-item"><a class="page-link" href="/${animalId}/qna?page=${i-1}">${i}</a></li>
             </c:otherwise>
          </c:choose>
       </c:forEach>
 
-      <!-- 다음 -->
+      <!-- 다음 (keyset) -->
       <c:choose>
-         <c:when test="${qnaEntity.last}"></c:when>
+         <c:when test="${qnaEntity.last || empty nextBefore}"></c:when>
          <c:otherwise>
-            <li class="page-item "><a class="page-link" href="/${animalId}/qna?page=${qnaEntity.number+1}">></a></li>
+            <li class="page-item "><a class="page-link" href="/${animalId}/qna?before=${nextBefore}&page=${qnaEntity.number+1}">></a></li>
          </c:otherwise>
       </c:choose>
-
-
       </ul>
 </div>
 </div>
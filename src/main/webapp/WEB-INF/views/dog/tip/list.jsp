@@ -8,6 +8,7 @@
 			<tr>
 				<th>글 번호</th>
 				<th>제목</th>
+				<th>작성자</th>
 				<th>작성일</th>
 				<th>
 					<div  class="d-flex justify-content-between">
@@ -23,7 +24,16 @@
              <c:forEach var="tip" items="${tipEntity.content}">
              <tr>
                 <td>${tip.id }</td>
-               <td><a href="/${animalId}/tip/${tip.id}">${tip.title }</a></td>
+               <td>
+                  <div class="d-flex">
+                     <c:if test="${!empty tip.thumbnailUrl}"><img src="<c:out value='${tip.listThumbnailUrl}'/>" class="me-2" style="width: 60px; height: 60px; object-fit: cover"></c:if>
+                     <div>
+                        <a href="/${animalId}/tip/${tip.id}">${tip.title }</a><c:if test="${tip.commentCount > 0}"> [${tip.commentCount}]</c:if>
+                        <c:if test="${!empty tip.excerpt}"><br><small class="text-muted"><c:out value="${tip.excerpt}"/></small></c:if>
+                     </div>
+                  </div>
+               </td>
+               <td>${tip.nickname }</td>
                <td>${tip.createdAt }</td>
                <td>${tip.counter}</td>
                </tr>
@@ -36,7 +46,6 @@
    <br>
         <div class="d-flex justify-content-center">
 <ul class="pagination order-2">
-      
       <!-- 이전 -->
       <c:choose>
          <c:when test="${tipEntity.first}"></c:when>
@@ -45,27 +54,28 @@
          </c:otherwise>
       </c:choose>
       
-      <!-- 페이지 그룹, 끝을 totalPages로 설정함 -->
+      <!-- 페이지 그룹, 끝을 totalPages로 설정함 (바로 다음 페이지는 keyset : OFFSET 없이 마지막 글 다음부터) -->
       <c:forEach begin="${startBlockPage}" end="${tipEntity.totalPages}" var="i">
          <c:choose>
             <c:when test="${tipEntity.pageable.pageNumber + 1 ==  i}">
                <li class="page-item disabled"><a class="page-link" href="/${animalId}/tip?page=${i-1}">${i}</a></li>
             </c:when>
+            <c:when test="${tipEntity.pageable.pageNumber + 2 ==  i && !empty nextBefore}">
+               <li class="page-item"><a class="page-link" href="/${animalId}/tip?before=${nextBefore}&page=${i-1}">${i}</a></li>
+            </c:when>
             <c:otherwise>
                <li class="page-item"><a class="page-link" href="/${animalId}/tip?page=${i-1}">${i}</a></li>
             </c:otherwise>
          </c:choose>
       </c:forEach>
 
-      <!-- 다음 -->
+      <!-- 다음 (keyset) -->
       <c:choose>
-         <c:when test="${tipEntity.last}"></c:when>
+         <c:when test="${tipEntity.last || empty nextBefore}"></c:when>
          <c:otherwise>
-            <li class="page-item "><a class="page-link" href="/${animalId}/tip?page=${qnaEntity.number+1}">></a></li>
+            <li class="page-item "><a class="page-link" href="/${animalId}/tip?before=${nextBefore}&page=${tipEntity.number+1}">></a></li>
          </c:otherwise>
       </c:choose>
-
-
       </ul>
 </div>
 </div>
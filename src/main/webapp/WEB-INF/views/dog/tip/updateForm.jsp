@@ -58,7 +58,12 @@ async function update(event, id){
 
 	$('#content').summernote({
 		placeholder : "내용을 입력하세요.(엔터 키를 누르면 크기가 늘어납니다.)",
-		height: 350
+		height: 350,
+		callbacks: {
+			onImageUpload: function(files) { // 붙여넣은 이미지는 서버에 올리고 주소만 본문에 넣는다
+				uploadEditorImages(files, '#content');
+			}
+		}
 	});
 </script>
 
@@ -21,6 +21,8 @@
 	rel="stylesheet">
 <script
 	src="https://cdn.jsdelivr.net/npm/summernote@0.8.18/dist/summernote-lite.min.js"></script>
+<script src="/js/editor.js"></script>
+<script src="/js/comment.js"></script>
 
 </head>
 <body style="min-height: 100%">
@@ -50,6 +52,9 @@
 							<li><a class="dropdown-item" href="/1/tip?page=0">꿀팁</a></li>
 						</ul></li>
 				</ul>
+				<form class="d-flex ms-3" action="/search" method="get">
+					<input class="form-control form-control-sm me-2" type="search" name="q" placeholder="검색">
+				</form>
 			</div>
 			<div>
 
@@ -21,11 +21,11 @@
 				<div class="card">
 					<div class="card-body cards">
 						<h5 class="card-title cards-title">${mainEntity[0].title }</h5>
-						<img class="card-img-top" src="${image[0]}"
+						<img class="card-img-top" src="${empty mainEntity[0].thumbnailUrl ? '/admin/assets/img/no-image-icon-23485.png' : mainEntity[0].thumbnailUrl}"
 							onerror="this.src='/admin/assets/img/no-image-icon-23485.png'"
 							width="322" height="238">
 						<p></p>
-						<a href="/${mainEntity[0].animal.id }/boast/${mainEntity[0].id}"
+						<a href="/${mainEntity[0].animalId }/boast/${mainEntity[0].id}"
 							class="btn btn-success">게시물보기</a>
 					</div>
 				</div>
@@ -34,11 +34,11 @@
 				<div class="card">
 					<div class="card-body cards">
 						<h5 class="card-title cards-title">${mainEntity[1].title }</h5>
-						<img class="card-img-top" src="${image[1]}"
+						<img class="card-img-top" src="${empty mainEntity[1].thumbnailUrl ? '/admin/assets/img/no-image-icon-23485.png' : mainEntity[1].thumbnailUrl}"
 							onerror="this.src='/admin/assets/img/no-image-icon-23485.png'"
 							width="322" height="238">
 						<p></p>
-						<a href="/${mainEntity[1].animal.id }/boast/${mainEntity[1].id}"
+						<a href="/${mainEntity[1].animalId }/boast/${mainEntity[1].id}"
 							class="btn btn-success">게시물보기</a>
 					</div>
 				</div>
@@ -47,11 +47,11 @@
 				<div class="card">
 					<div class="card-body cards">
 						<h5 class="card-title cards-title">${mainEntity[2].title }</h5>
-						<img class="card-img-top" src="${image[2]}"
+						<img class="card-img-top" src="${empty mainEntity[2].thumbnailUrl ? '/admin/assets/img/no-image-icon-23485.png' : mainEntity[2].thumbnailUrl}"
 							onerror="this.src='/admin/assets/img/no-image-icon-23485.png'"
 							width="322" height="238">
 						<p></p>
-						<a href="/${mainEntity[2].animal.id }/boast/${mainEntity[2].id}"
+						<a href="/${mainEntity[2].animalId }/boast/${mainEntity[2].id}"
 							class="btn btn-success ">게시물보기</a>
 					</div>
 				</div>
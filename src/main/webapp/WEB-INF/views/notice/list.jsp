@@ -8,6 +8,7 @@
 			<tr>
 				<th>글 번호</th>
 				<th>제목</th>
+				<th>작성자</th>
 				<th>작성일</th>
 				<th>
 					<div  class="d-flex justify-content-between">
@@ -25,7 +26,16 @@
              <c:forEach var="notice" items="${noticeEntity.content}">
              <tr>
                 <td>${notice.id }</td>
-               <td><a href="/notice/${notice.id}">${notice.title }</a></td>
+               <td>
+                  <div class="d-flex">
+                     <c:if test="${!empty notice.thumbnailUrl}"><img src="<c:out value='${notice.listThumbnailUrl}'/>" class="me-2" style="width: 60px; height: 60px; object-fit: cover"></c:if>
+                     <div>
+                        <a href="/notice/${notice.id}">${notice.title }</a>
+                        <c:if test="${!empty notice.excerpt}"><br><small class="text-muted"><c:out value="${notice.excerpt}"/></small></c:if>
+                     </div>
+                  </div>
+               </td>
+               <td>${notice.nickname }</td>
                <td>${notice.createdAt }</td>
                <td>${notice.counter}</td>
                </tr>
@@ -38,7 +48,6 @@
    <br>
         <div class="d-flex justify-content-center">
 <ul class="pagination order-2">
-      
       <!-- 이전 -->
       <c:choose>
          <c:when test="${noticeEntity.first}"></c:when>
@@ -47,27 +56,28 @@
          </c:otherwise>
       </c:choose>
       
-      <!-- 페이지 그룹, 끝을 totalPages로 설정함 -->
+      <!-- 페이지 그룹, 끝을 totalPages로 설정함 (바로 다음 페이지는 keyset : OFFSET 없이 마지막 글 다음부터) -->
       <c:forEach begin="${startBlockPage}" end="${noticeEntity.totalPages}" var="i">
          <c:choose>
             <c:when test="${noticeEntity.pageable.pageNumber + 1 ==  i}">
                <li class="page-item disabled"><a class="page-link" href="/notice?page=${i-1}">${i}</a></li>
             </c:when>
+            <c:when test="${noticeEntity.pageable.pageNumber + 2 ==  i && !empty nextBefore}">
+               <li class="page-item"><a class="page-link" href="/notice?before=${nextBefore}&page=${i-1}">${i}</a></li>
+            </c:when>
             <c:otherwise>
                <li class="page-item"><a class="page-link" href="/notice?page=${i-1}">${i}</a></li>
             </c:otherwise>
          </c:choose>
       </c:forEach>
 
-      <!-- 다음 -->
+      <!-- 다음 (keyset) -->
       <c:choose>
-         <c:when test="${noticeEntity.last}"></c:when>
+         <c:when test="${noticeEntity.last || empty nextBefore}"></c:when>
          <c:otherwise>
-            <li class="page-item "><a class="page-link" href="/notice?page=${noticeEntity.number+1}">></a></li>
+            <li class="page-item "><a class="page-link" href="/notice?before=${nextBefore}&page=${noticeEntity.number+1}">></a></li>
          </c:otherwise>
       </c:choose>
-
-
       </ul>
 </div>
 </div>
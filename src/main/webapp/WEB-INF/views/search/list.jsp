@@ -0,0 +1,72 @@
+<%@ page language="java" contentType="text/html;charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ include file="../layout/header.jsp"%>
+
+<div class="container">
+	<h1>검색</h1>
+	<form class="d-flex" action="/search" method="get">
+		<select class="form-select me-2" name="board" style="width: 150px">
+			<option value="" ${empty board ? 'selected' : ''}>전체 게시판</option>
+			<option value="boast" ${board eq 'boast' ? 'selected' : ''}>자랑하기</option>
+			<option value="qna" ${board eq 'qna' ? 'selected' : ''}>QnA</option>
+			<option value="tip" ${board eq 'tip' ? 'selected' : ''}>꿀팁</option>
+			<option value="notice" ${board eq 'notice' ? 'selected' : ''}>공지사항</option>
+		</select>
+		<select class="form-select me-2" name="animalId" style="width: 150px">
+			<option value="" ${empty animalId ? 'selected' : ''}>전체</option>
+			<option value="2" ${animalId eq 2 ? 'selected' : ''}>댕댕이</option>
+			<option value="1" ${animalId eq 1 ? 'selected' : ''}>냐옹이</option>
+		</select>
+		<input class="form-control me-2" type="search" name="q" value="<c:out value='${q}'/>" placeholder="검색어">
+		<button class="btn btn-success" type="submit" style="white-space: nowrap">검색</button>
+	</form>
+	<br>
+
+	<c:if test="${!ready}">
+		<div class="alert alert-warning">검색 준비 중입니다. 잠시 후 다시 시도해주세요.</div>
+	</c:if>
+
+	<p>검색 결과 ${result.total}건</p>
+	<table class="table table-hover">
+		<thead>
+			<tr>
+				<th>게시판</th>
+				<th>제목</th>
+			</tr>
+		</thead>
+		<tbody>
+			<c:forEach var="hit" items="${result.hits}">
+				<tr>
+					<td>${hit.board}</td>
+					<td><a href="${hit.url}"><c:out value="${hit.title}"/></a></td>
+				</tr>
+			</c:forEach>
+		</tbody>
+	</table>
+	<br>
+
+	<c:url var="prevUrl" value="/search">
+		<c:param name="q" value="${q}" />
+		<c:param name="board" value="${board}" />
+		<c:param name="animalId" value="${animalId}" />
+		<c:param name="page" value="${result.page - 1}" />
+	</c:url>
+	<c:url var="nextUrl" value="/search">
+		<c:param name="q" value="${q}" />
+		<c:param name="board" value="${board}" />
+		<c:param name="animalId" value="${animalId}" />
+		<c:param name="page" value="${result.page + 1}" />
+	</c:url>
+	<div class="d-flex justify-content-center">
+		<ul class="pagination">
+			<c:if test="${result.page > 0}">
+				<li class="page-item"><a class="page-link" href="${prevUrl}"><</a></li>
+			</c:if>
+			<li class="page-item disabled"><a class="page-link" href="#">${result.page + 1}</a></li>
+			<c:if test="${!result.last}">
+				<li class="page-item"><a class="page-link" href="${nextUrl}">></a></li>
+			</c:if>
+		</ul>
+	</div>
+</div>
+
+<%@ include file="../layout/footer.jsp"%>
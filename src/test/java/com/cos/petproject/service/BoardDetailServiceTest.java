@@ -0,0 +1,91 @@
+package com.cos.petproject.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.cos.petproject.domain.animal.Animal;
+import com.cos.petproject.domain.board.AnimalBoard;
+import com.cos.petproject.domain.board.BoardRepositories;
+import com.cos.petproject.domain.boast.Boast;
+import com.cos.petproject.domain.comment.Comment;
+import com.cos.petproject.domain.user.User;
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.web.dto.BoardDetailRespDto;
+
+// 상세페이지 조회가 댓글 수와 상관없이 정해진 쿼리 수로 끝나는지 확인
+@DataJpaTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@Import({ BoardDetailService.class, BoardRepositories.class })
+public class BoardDetailServiceTest {
+
+	@Autowired
+	private BoardDetailService boardDetailService;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory emf;
+
+	@Test
+	public void boast_detail_loads_in_two_statements() {
+		Animal animal = new Animal();
+		animal.setKinds("cat");
+		em.persist(animal);
+
+		User writer = user("writer");
+		Boast boast = new Boast();
+		boast.setTitle("제목");
+		boast.setContent("내용");
+		boast.setUser(writer);
+		boast.setAnimal(animal);
+		em.persist(boast);
+
+		// 댓글 작성자가 모두 다르면 예전 방식에서는 댓글마다 쿼리가 나갔다
+		for (int i = 0; i < 5; i++) {
+			Comment comment = new Comment();
+			comment.setContent("댓글" + i);
+			comment.setUser(user("commenter" + i));
+			comment.setBoast(boast);
+			em.persist(comment);
+		}
+		em.flush();
+		em.clear();
+
+		Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		BoardDetailRespDto<AnimalBoard> detail = boardDetailService.detail(BoardType.BOAST, boast.getId());
+
+		assertEquals("writer", detail.getBoard().getUser().getUsername());
+		assertEquals("cat", detail.getBoard().getAnimal().getKinds());
+		assertEquals(5, detail.getComments().size());
+		assertEquals("commenter4", detail.getComments().get(0).getUsername());
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+
+	private User user(String username) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword("password");
+		user.setName("이름");
+		user.setNickname(username);
+		user.setPhone(String.valueOf(Math.abs(username.hashCode())));
+		user.setEmail(username + "@test.com");
+		user.setGender("남");
+		user.setBirth("2000-01-01");
+		user.setAuthority("user");
+		em.persist(user);
+		return user;
+	}
+}
@@ -0,0 +1,90 @@
+package com.cos.petproject.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.cos.petproject.util.BoardType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 검색 index 를 가짜 글 100만개(기본값)로 채웠을 때의 메모리와 검색 시간
+// 오래 걸리므로 기본 test 에서는 빠진다.
+// mvn test -Dtest=SearchIndexBenchmarkTest -DexcludedGroups= -Dsearch.benchmark.docs=1000000
+@Tag("benchmark")
+public class SearchIndexBenchmarkTest {
+
+	private static final int DOCS = Integer.getInteger("search.benchmark.docs", 1_000_000);
+	private static final long MAX_HEAP_MB = Long.getLong("search.benchmark.max-heap-mb", 1024);
+
+	@Test
+	public void 글_100만개() {
+		Random random = new Random(42);
+		String[] words = words(random, 5000);
+
+		System.gc();
+		long before = usedHeap();
+		long start = System.nanoTime();
+
+		SearchIndex index = new SearchIndex(null, 500, new SimpleMeterRegistry());
+		BoardType[] types = BoardType.values();
+		for (int i = 0; i < DOCS; i++) {
+			BoardType type = types[i % types.length];
+			index.index(type, i / types.length + 1, type.isAnimalBoard() ? 1 + i % 2 : 0, sentence(random, words, 4),
+					sentence(random, words, 40 + random.nextInt(40)), 1);
+		}
+		long buildMs = (System.nanoTime() - start) / 1_000_000;
+
+		System.gc();
+		long heapMb = (usedHeap() - before) / (1024 * 1024);
+
+		// 자주 나오는 단어, 드문 단어, 두 단어
+		int queries = 200;
+		long[] times = new long[queries];
+		int found = 0;
+		for (int i = 0; i < queries; i++) {
+			String query = i % 3 == 0 ? words[i % 20] : i % 3 == 1 ? words[1000 + i] : words[i % 50] + " " + words[100 + i];
+			long t = System.nanoTime();
+			found += index.search(query, null, null, 0, 20).getTotal();
+			times[i] = System.nanoTime() - t;
+		}
+		Arrays.sort(times);
+
+		System.out.println("search benchmark : docs=" + DOCS + " build=" + buildMs + "ms heap=" + heapMb + "MB p50="
+				+ times[queries / 2] / 1000 + "us p99=" + times[queries * 99 / 100] / 1000 + "us found=" + found);
+		assertTrue(found > 0);
+		assertTrue(heapMb <= MAX_HEAP_MB, "index heap " + heapMb + "MB > " + MAX_HEAP_MB + "MB");
+	}
+
+	// 두세 글자 한글 단어 (앞쪽 단어일수록 자주 나온다)
+	private static String[] words(Random random, int count) {
+		String[] words = new String[count];
+		for (int i = 0; i < count; i++) {
+			StringBuilder sb = new StringBuilder();
+			int length = 2 + random.nextInt(2);
+			for (int j = 0; j < length; j++) {
+				sb.append((char) (0xAC00 + random.nextInt(2000)));
+			}
+			words[i] = sb.toString();
+		}
+		return words;
+	}
+
+	private static String sentence(Random random, String[] words, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			double r = random.nextDouble();
+			sb.append(words[(int) (words.length * r * r * r)]).append(' ');
+		}
+		return sb.toString();
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
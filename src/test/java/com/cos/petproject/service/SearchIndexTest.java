@@ -0,0 +1,66 @@
+package com.cos.petproject.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.cos.petproject.util.BoardType;
+import com.cos.petproject.web.dto.SearchHitDto;
+import com.cos.petproject.web.dto.SearchRespDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 검색 index 의 추가/수정/삭제와 지운 글 정리 후에도 같은 결과가 나오는지 확인
+public class SearchIndexTest {
+
+	private final SearchIndex index = new SearchIndex(null, 500, new SimpleMeterRegistry());
+
+	@Test
+	public void 모든_단어가_들어있는_글만_점수순() {
+		index.index(BoardType.BOAST, 1, 1, "강아지 산책", "공원에서 산책했어요", 1);
+		index.index(BoardType.QNA, 1, 2, "고양이 사료", "강아지 사료도 되나요", 1);
+		index.index(BoardType.TIP, 1, 1, "목욕", "강아지 목욕 방법", 1);
+
+		SearchRespDto result = index.search("강아지 산책", null, null, 0, 10);
+
+		assertEquals(1, result.getTotal());
+		assertEquals("/1/boast/1", result.getHits().get(0).getUrl());
+		assertEquals(3, index.search("강아지", null, null, 0, 10).getTotal());
+		assertEquals(1, index.search("강아지", BoardType.QNA, null, 0, 10).getTotal());
+		assertEquals(2, index.search("강아지", null, 1, 0, 10).getTotal());
+	}
+
+	@Test
+	public void 수정하면_예전_본문으로는_찾을_수_없음() {
+		index.index(BoardType.BOAST, 1, 1, "제목", "강아지", 1);
+		index.index(BoardType.BOAST, 1, 1, "제목", "고양이", 2);
+		index.index(BoardType.BOAST, 1, 1, "제목", "햄스터", 1); // 늦게 도착한 예전 버전은 무시
+
+		assertEquals(0, index.search("강아지", null, null, 0, 10).getTotal());
+		assertEquals(1, index.search("고양이", null, null, 0, 10).getTotal());
+		assertEquals(0, index.search("햄스터", null, null, 0, 10).getTotal());
+	}
+
+	@Test
+	public void 지운_글이_많아져서_정리해도_결과는_같음() {
+		for (int id = 1; id <= 3000; id++) {
+			index.index(BoardType.BOAST, id, 1, "제목" + id, id % 2 == 0 ? "강아지 사진" : "고양이 사진", 1);
+		}
+		for (int id = 1; id <= 2000; id++) {
+			index.remove(BoardType.BOAST, id);
+		}
+		index.index(BoardType.NOTICE, 1, 0, "공지", "강아지 사진", 1);
+
+		SearchRespDto result = index.search("강아지 사진", null, null, 0, 1000);
+
+		assertEquals(501, result.getTotal());
+		List<Integer> ids = result.getHits().stream().map(SearchHitDto::getId).collect(Collectors.toList());
+		assertTrue(ids.stream().allMatch(id -> id == 1 || id > 2000));
+		assertEquals(1, index.search("공지", BoardType.NOTICE, null, 0, 10).getTotal());
+		assertEquals(1, index.search("제목2500", null, null, 0, 10).getTotal());
+	}
+}
@@ -0,0 +1,98 @@
+package com.cos.petproject.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// 글 작성 시 본문 정리 (허용 태그, <p> 벗기기, 썸네일/요약 추출) 확인
+public class BoardContentTest {
+
+	private static final String HASH = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+	@Test
+	public void script와_on속성은_제거() {
+		BoardContent content = BoardContent.of("<div onclick=\"alert(1)\">안녕<script>alert(2)</script></div>"
+				+ "<img src=\"/media/" + HASH + "\" onerror=\"alert(3)\">");
+
+		assertFalse(content.getHtml().contains("script"));
+		assertFalse(content.getHtml().contains("alert"));
+		assertFalse(content.getHtml().contains("onclick"));
+		assertFalse(content.getHtml().contains("onerror"));
+	}
+
+	@Test
+	public void javascript_링크는_제거() {
+		BoardContent content = BoardContent.of("<a href=\"javascript:alert(1)\">링크</a>");
+
+		assertEquals("<a>링크</a>", content.getHtml());
+	}
+
+	@Test
+	public void media_상대경로와_data_이미지는_유지() {
+		String media = "<img src=\"/media/" + HASH + "\">";
+		String data = "<img src=\"data:image/png;base64,iVBORw0KGgo=\">";
+
+		BoardContent content = BoardContent.of(media + data);
+
+		assertEquals(media + data, content.getHtml());
+	}
+
+	@Test
+	public void p태그는_벗기고_내용은_유지() {
+		BoardContent content = BoardContent.of("<p>첫 문단 <b>굵게</b></p><p><br></p><p>둘째</p>");
+
+		assertEquals("첫 문단 <b>굵게</b><br>둘째", content.getHtml());
+		assertEquals("첫 문단 굵게 둘째", content.getPlainText());
+	}
+
+	@Test
+	public void 요약은_100글자까지() {
+		String exact = repeat("가", BoardContent.EXCERPT_LENGTH);
+		assertEquals(exact, BoardContent.of(exact).getExcerpt());
+
+		// 한 글자가 char 두개인 이모지도 글자 단위로 자른다
+		String emoji = repeat("🐶", BoardContent.EXCERPT_LENGTH + 1);
+		BoardContent content = BoardContent.of(emoji);
+		assertEquals(repeat("🐶", BoardContent.EXCERPT_LENGTH) + "…", content.getExcerpt());
+		assertEquals(BoardContent.EXCERPT_LENGTH + 1, content.getLength());
+	}
+
+	@Test
+	public void 썸네일은_너무_긴_첫이미지를_건너뜀() {
+		String longSrc = "data:image/png;base64," + repeat("A", HtmlImage.MAX_URL_LENGTH);
+		BoardContent content = BoardContent.of("<img src=\"" + longSrc + "\"><img src=\"/media/" + HASH + "\">");
+
+		assertEquals("/media/" + HASH, content.getThumbnailUrl());
+		assertTrue(content.getHtml().contains(longSrc)); // 본문에서는 지우지 않는다
+	}
+
+	@Test
+	public void base64_이미지만_있으면_썸네일_없음() {
+		BoardContent content = BoardContent.of("<img src=\"data:image/png;base64,AAAA\">");
+
+		assertEquals("", content.getThumbnailUrl());
+	}
+
+	@Test
+	public void style은_에디터_속성만_남김() {
+		BoardContent content = BoardContent.of("<span style=\"color: rgb(255, 0, 0); position: fixed; top: 0\">빨강</span>"
+				+ "<div style=\"background-color: url(http://evil/x.png); text-align: center\">가운데</div>"
+				+ "<img src=\"/media/" + HASH + "\" style=\"width: 50%; z-index: 9999\">"
+				+ "<span style=\"width: 100%\">넓게</span>");
+
+		assertEquals("<span style=\"color: rgb(255, 0, 0);\">빨강</span>"
+				+ "<div style=\"text-align: center;\">가운데</div>"
+				+ "<img src=\"/media/" + HASH + "\" style=\"width: 50%;\">"
+				+ "<span>넓게</span>", content.getHtml());
+	}
+
+	private static String repeat(String s, int count) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			sb.append(s);
+		}
+		return sb.toString();
+	}
+}